@@ -4,6 +4,7 @@ import com.seasonsofconflict.commands.*;
 import com.seasonsofconflict.data.DataManager;
 import com.seasonsofconflict.listeners.*;
 import com.seasonsofconflict.managers.*;
+import com.seasonsofconflict.models.ConfigSnapshot;
 import com.seasonsofconflict.tasks.*;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -12,6 +13,9 @@ public class SeasonsOfConflict extends JavaPlugin {
 
     private static SeasonsOfConflict instance;
 
+    // Typed config values for hot paths, swapped as a whole on reload
+    private volatile ConfigSnapshot settings;
+
     // Managers
     private DataManager dataManager;
     private GameManager gameManager;
@@ -29,6 +33,13 @@ public class SeasonsOfConflict extends JavaPlugin {
     private SkillTreeGUI skillTreeGUI;
     private SkillEffectManager skillEffectManager;
     private CooldownManager cooldownManager;
+    private ProfileLoader profileLoader;
+    private PlayerGrid playerGrid;
+    private SidebarManager sidebarManager;
+    private HudManager hudManager;
+    private HeatSourceIndex heatSourceIndex;
+    private BlockOperationScheduler blockOperationScheduler;
+    private BlockSampler blockSampler;
 
     // Listeners
     private CompassTrackingListener compassTrackingListener;
@@ -42,6 +53,7 @@ public class SeasonsOfConflict extends JavaPlugin {
 
         // Save default config
         saveDefaultConfig();
+        settings = ConfigSnapshot.load(getConfig(), getLogger());
 
         // Initialize data manager
         dataManager = new DataManager(this);
@@ -64,11 +76,29 @@ public class SeasonsOfConflict extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        // Finish area breaks in progress so their drops are not lost
+        if (blockOperationScheduler != null) {
+            blockOperationScheduler.finishAll();
+        }
+
         // Clean up boss bars
         if (bossBarManager != null) {
             bossBarManager.cleanup();
         }
 
+        // Queue final state for every cached entity
+        if (gameManager != null) {
+            gameManager.finishDailyReset();
+            gameManager.saveAllPlayers();
+            gameManager.saveGameState();
+        }
+        if (teamManager != null) {
+            teamManager.saveAllTeams();
+        }
+        if (territoryManager != null) {
+            territoryManager.saveAllTerritories();
+        }
+
         // Save skill and XP data
         if (xpManager != null) {
             xpManager.saveAll();
@@ -77,7 +107,7 @@ public class SeasonsOfConflict extends JavaPlugin {
             skillManager.saveAll();
         }
 
-        // Save all data
+        // Drain the write-behind queue synchronously, then close
         if (dataManager != null) {
             dataManager.saveAll();
             dataManager.close();
@@ -105,6 +135,13 @@ public class SeasonsOfConflict extends JavaPlugin {
         skillTreeGUI = new SkillTreeGUI(this);
         skillEffectManager = new SkillEffectManager(this);
         cooldownManager = new CooldownManager(this);
+        profileLoader = new ProfileLoader(this);
+        playerGrid = new PlayerGrid(this);
+        sidebarManager = new SidebarManager(this);
+        hudManager = new HudManager(this);
+        heatSourceIndex = new HeatSourceIndex(this);
+        blockOperationScheduler = new BlockOperationScheduler(this);
+        blockSampler = new BlockSampler(this);
 
         // Initialize listeners that need to be accessed
         compassTrackingListener = new CompassTrackingListener(this);
@@ -113,9 +150,12 @@ public class SeasonsOfConflict extends JavaPlugin {
         teamManager.loadTeams();
         territoryManager.loadTerritories();
         gameManager.loadGameState();
+        heatSourceIndex.indexLoadedChunks();
+        blockSampler.trackLoadedChunks();
     }
 
     private void registerListeners() {
+        getServer().getPluginManager().registerEvents(new PlayerPreLoginListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerJoinListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerDeathListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerMoveListener(this), this);
@@ -129,6 +169,8 @@ public class SeasonsOfConflict extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new CropGrowthListener(this), this);
         getServer().getPluginManager().registerEvents(new MobSpawnListener(this), this);
         getServer().getPluginManager().registerEvents(new FishingListener(this), this);
+        getServer().getPluginManager().registerEvents(new HeatSourceListener(this), this);
+        getServer().getPluginManager().registerEvents(new ChunkListener(this), this);
         // Compass tracking listener
         getServer().getPluginManager().registerEvents(compassTrackingListener, this);
         // XP gain listener
@@ -180,6 +222,12 @@ public class SeasonsOfConflict extends JavaPlugin {
     }
 
     private void startTasks() {
+        // Player grid invalidation - runs every tick
+        new PlayerGridTask(this).runTaskTimer(this, 0L, 1L);
+
+        // Vein Miner / tree felling block breaks - runs every tick
+        new BlockOperationTask(this).runTaskTimer(this, 0L, 1L);
+
         // Capture tick task - runs every second
         new CaptureTickTask(this).runTaskTimer(this, 0L, 20L);
 
@@ -189,8 +237,15 @@ public class SeasonsOfConflict extends JavaPlugin {
         // Daily reset task - runs every 10 minutes to check for midnight
         new DailyResetTask(this).runTaskTimer(this, 0L, 20L * 60 * 10);
 
-        // Scoreboard update task - runs every 2 seconds
-        new ScoreboardUpdateTask(this).runTaskTimer(this, 0L, 40L);
+        // Player cache eviction - runs every minute
+        new PlayerCacheTask(this).runTaskTimer(this, 20L * 60, 20L * 60);
+
+        // Quest progress journal - runs every 5 seconds (configurable)
+        long journalInterval = Math.max(1L, getConfig().getLong("quests.journal.flush_seconds", 5)) * 20L;
+        new QuestJournalTask(this).runTaskTimer(this, journalInterval, journalInterval);
+
+        // HUD (sidebar and boss bars) updates for dirty players - runs every 10 ticks
+        new HudUpdateTask(this).runTaskTimer(this, 0L, 10L);
 
         // Winter freezing damage task - runs every 30 seconds
         new FreezingDamageTask(this).runTaskTimer(this, 0L, 20L * 30);
@@ -201,9 +256,6 @@ public class SeasonsOfConflict extends JavaPlugin {
         // Seasonal particle effects - runs every 3 seconds
         new SeasonalParticlesTask(this).runTaskTimer(this, 0L, 60L);
 
-        // Boss bar updates - runs every 2 seconds
-        new BossBarUpdateTask(this).runTaskTimer(this, 0L, 40L);
-
         // Compass tracking updates - runs every 5 seconds
         new CompassUpdateTask(this).runTaskTimer(this, 0L, 100L);
 
@@ -227,6 +279,19 @@ public class SeasonsOfConflict extends JavaPlugin {
         return instance;
     }
 
+    /**
+     * Re-read config.yml from disk and swap in a fresh settings snapshot
+     */
+    public void reloadSettings() {
+        reloadConfig();
+        settings = ConfigSnapshot.load(getConfig(), getLogger());
+        skillManager.loadConfiguration();
+    }
+
+    public ConfigSnapshot getSettings() {
+        return settings;
+    }
+
     public DataManager getDataManager() {
         return dataManager;
     }
@@ -295,6 +360,34 @@ public class SeasonsOfConflict extends JavaPlugin {
         return cooldownManager;
     }
 
+    public ProfileLoader getProfileLoader() {
+        return profileLoader;
+    }
+
+    public PlayerGrid getPlayerGrid() {
+        return playerGrid;
+    }
+
+    public SidebarManager getSidebarManager() {
+        return sidebarManager;
+    }
+
+    public HudManager getHudManager() {
+        return hudManager;
+    }
+
+    public HeatSourceIndex getHeatSourceIndex() {
+        return heatSourceIndex;
+    }
+
+    public BlockOperationScheduler getBlockOperationScheduler() {
+        return blockOperationScheduler;
+    }
+
+    public BlockSampler getBlockSampler() {
+        return blockSampler;
+    }
+
     public ActiveSkillListener getActiveSkillListener() {
         return activeSkillListener;
     }
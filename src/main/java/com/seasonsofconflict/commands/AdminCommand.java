@@ -1,11 +1,22 @@
 package com.seasonsofconflict.commands;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.data.ConnectionPool;
+import com.seasonsofconflict.data.DataManager;
+import com.seasonsofconflict.data.QuestJournal;
+import com.seasonsofconflict.data.WriteBehindQueue;
+import com.seasonsofconflict.managers.BlockOperationScheduler;
+import com.seasonsofconflict.managers.BlockSampler;
+import com.seasonsofconflict.managers.GameManager;
+import com.seasonsofconflict.managers.HeatSourceIndex;
+import com.seasonsofconflict.managers.ProfileLoader;
+import com.seasonsofconflict.managers.SidebarManager;
 import com.seasonsofconflict.models.GameState;
 import com.seasonsofconflict.models.PlayerData;
 import com.seasonsofconflict.models.Season;
 import com.seasonsofconflict.models.TeamData;
 import com.seasonsofconflict.models.TerritoryData;
+import com.seasonsofconflict.tasks.DailyResetJob;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
@@ -15,6 +26,8 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.Map;
+
 public class AdminCommand implements CommandExecutor {
 
     private final SeasonsOfConflict plugin;
@@ -42,6 +55,8 @@ public class AdminCommand implements CommandExecutor {
             MessageUtils.sendMessage(sender, "&e/soc territories &7- View territory status");
             MessageUtils.sendMessage(sender, "&e/soc teams &7- View team status");
             MessageUtils.sendMessage(sender, "&e/soc gameinfo &7- View game state");
+            MessageUtils.sendMessage(sender, "&e/soc dbinfo &7- View database settings and write queue");
+            MessageUtils.sendMessage(sender, "&e/soc reload &7- Reload config.yml");
             MessageUtils.sendMessage(sender, "&e/soc event <trigger|stop|list|info> &7- Manage world events");
             MessageUtils.sendMessage(sender, "&e/soc skills <subcommand> &7- Manage player skills/XP");
             MessageUtils.sendMessage(sender, "&c/soc resetall confirm &7- RESET EVERYTHING (requires 'confirm')");
@@ -330,11 +345,45 @@ public class AdminCommand implements CommandExecutor {
                 MessageUtils.sendMessage(sender, "&eSeason: &f" + gs.getCurrentSeason());
                 MessageUtils.sendMessage(sender, "&eCycle: &f" + gs.getCurrentCycle());
                 MessageUtils.sendMessage(sender, "&eApocalypse: &f" + (gs.isApocalypse() ? "&cYES" : "&aNo"));
+                if (gs.isApocalypse()) {
+                    BlockSampler sampler = plugin.getBlockSampler();
+                    MessageUtils.sendMessage(sender, "&eApocalypse samples: &f" + sampler.getSamplesTaken() +
+                        " &7(" + sampler.getChunkLoadsAvoided() + " chunk loads avoided, " +
+                        sampler.getOverlapSamplesSkipped() + " overlapping skipped)");
+                }
+                DailyResetJob reset = plugin.getGameManager().getDailyResetJob();
+                if (reset != null) {
+                    MessageUtils.sendMessage(sender, "&eDaily reset: &f" + reset.getProcessedCount() + "/" +
+                        reset.getTotalCount() + " players &7(" + (reset.isDone() ? "done" : "running") +
+                        ", " + reset.getElapsedMillis() + " ms)");
+                }
+                SidebarManager sidebars = plugin.getSidebarManager();
+                MessageUtils.sendMessage(sender, "&eSidebars: &f" + sidebars.getSidebarCount() +
+                    " &7(" + sidebars.getLineUpdates() + " lines re-sent)");
+                MessageUtils.sendMessage(sender, "&eHUD renders: &f" + plugin.getHudManager().getRenderCount());
+                if (gs.getCurrentSeason() == Season.WINTER) {
+                    HeatSourceIndex heat = plugin.getHeatSourceIndex();
+                    MessageUtils.sendMessage(sender, "&eHeat sources: &f" + heat.getIndexedCount() + " indexed &7(" +
+                        heat.getIndexHits() + " index hits, " + heat.getFallbackScans() + " fallback scans)");
+                }
+                BlockOperationScheduler areaBreaks = plugin.getBlockOperationScheduler();
+                MessageUtils.sendMessage(sender, "&eArea breaks: &f" + areaBreaks.getActiveJobCount() + " running &7(" +
+                    areaBreaks.getBlocksBroken() + " blocks broken)");
                 MessageUtils.sendMessage(sender, "&eWorld Border: &f" + gs.getWorldBorderSize());
                 MessageUtils.sendMessage(sender, "&eRevival Cost: &f" + gs.getRevivalCost());
                 MessageUtils.sendMessage(sender, "&eActive Teams: &f" + plugin.getTeamManager().getRemainingTeamCount());
                 break;
 
+            case "dbinfo":
+                showDatabaseInfo(sender);
+                break;
+
+            case "reload":
+                plugin.reloadSettings();
+                MessageUtils.sendSuccess(sender, "Reloaded configuration!");
+                plugin.getLogger().info(sender.getName() + " reloaded config.yml");
+                break;
+
             case "event":
                 handleEventCommand(sender, args);
                 break;
@@ -451,6 +500,41 @@ public class AdminCommand implements CommandExecutor {
         return true;
     }
 
+    /**
+     * Show active SQLite pragmas and write-behind queue statistics
+     */
+    private void showDatabaseInfo(CommandSender sender) {
+        DataManager dataManager = plugin.getDataManager();
+        WriteBehindQueue queue = dataManager.getWriteQueue();
+
+        MessageUtils.sendMessage(sender, "&6&l=== Database ===");
+        for (Map.Entry<String, String> pragma : dataManager.getPragmaReport().entrySet()) {
+            MessageUtils.sendMessage(sender, "&e" + pragma.getKey() + ": &f" + pragma.getValue());
+        }
+        ConnectionPool pool = dataManager.getPool();
+        MessageUtils.sendMessage(sender, "&eReaders: &f" + (pool.getReaderCount() - pool.getIdleReaderCount()) +
+            "/" + pool.getReaderCount() + " in use");
+        MessageUtils.sendMessage(sender, "&eCached statements: &f" + dataManager.getCachedStatementCount());
+        MessageUtils.sendMessage(sender, "&eQueued writes: &f" + queue.getPendingCount());
+        MessageUtils.sendMessage(sender, "&eWritten: &f" + queue.getWrittenCount() +
+            " &7(" + queue.getCoalescedCount() + " coalesced, " + queue.getFailedCount() + " failed)");
+
+        QuestJournal journal = dataManager.getQuestJournal();
+        MessageUtils.sendMessage(sender, "&eQuest journal: &f" + journal.getDeltasRecorded() + " deltas -> " +
+            journal.getRowsAppended() + " rows &7(" + journal.getCompactions() + " compactions, " +
+            journal.getPendingPlayerCount() + " players buffered)");
+
+        GameManager gameManager = plugin.getGameManager();
+        MessageUtils.sendMessage(sender, "&ePlayer cache: &f" + gameManager.getOnlineCacheSize() + " online, " +
+            gameManager.getOfflineCacheSize() + " offline, " + gameManager.getEvictedRosterSize() + " evicted");
+        MessageUtils.sendMessage(sender, "&eCache hits: &f" + gameManager.getCacheHits() +
+            " &7(" + gameManager.getCacheMisses() + " misses, " + gameManager.getCacheEvictions() + " evictions)");
+
+        ProfileLoader profiles = plugin.getProfileLoader();
+        MessageUtils.sendMessage(sender, "&eProfile preloads: &f" + profiles.getLoadedCount() +
+            " &7(" + profiles.getInstalledCount() + " installed, " + profiles.getPendingCount() + " waiting)");
+    }
+
     /**
      * Handle event subcommands
      */
@@ -750,13 +834,7 @@ public class AdminCommand implements CommandExecutor {
 
                 String skillName = args[3].toLowerCase();
                 // Find skill by internal name
-                com.seasonsofconflict.models.Skill skill = null;
-                for (com.seasonsofconflict.models.Skill s : com.seasonsofconflict.models.Skill.values()) {
-                    if (s.getInternalName().equalsIgnoreCase(skillName) || s.name().equalsIgnoreCase(skillName)) {
-                        skill = s;
-                        break;
-                    }
-                }
+                com.seasonsofconflict.models.Skill skill = com.seasonsofconflict.models.Skill.fromName(skillName);
 
                 if (skill == null) {
                     MessageUtils.sendError(sender, "Unknown skill: " + skillName);
@@ -816,7 +894,7 @@ public class AdminCommand implements CommandExecutor {
                     StringBuilder unlockedSkills = new StringBuilder("   &7Skills: &f");
                     boolean hasAny = false;
                     for (com.seasonsofconflict.models.Skill s : com.seasonsofconflict.models.Skill.values()) {
-                        if (s.getTree() == tree && skillsInfo.hasSkill(tree, s.getTier())) {
+                        if (s.getTree() == tree && skillsInfo.hasSkill(s)) {
                             if (hasAny) unlockedSkills.append(", ");
                             unlockedSkills.append(s.getDisplayName());
                             hasAny = true;
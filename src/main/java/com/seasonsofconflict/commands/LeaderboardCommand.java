@@ -1,16 +1,13 @@
 package com.seasonsofconflict.commands;
 
 import com.seasonsofconflict.SeasonsOfConflict;
-import com.seasonsofconflict.models.PlayerData;
 import com.seasonsofconflict.models.TeamData;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.Map;
 
 public class LeaderboardCommand implements CommandExecutor {
 
@@ -26,12 +23,9 @@ public class LeaderboardCommand implements CommandExecutor {
 
         if (type.equals("kills")) {
             MessageUtils.sendMessage(sender, "&6=== Top Kills ===");
-            List<PlayerData> players = new ArrayList<>(plugin.getGameManager().getAllPlayerData().values());
-            players.sort(Comparator.comparingInt(PlayerData::getTotalKills).reversed());
-            
             int rank = 1;
-            for (PlayerData data : players.subList(0, Math.min(10, players.size()))) {
-                MessageUtils.sendMessage(sender, "&e" + rank + ". &f" + data.getName() + " &7- " + data.getTotalKills() + " kills");
+            for (Map.Entry<String, Integer> entry : plugin.getGameManager().getTopKillers(10).entrySet()) {
+                MessageUtils.sendMessage(sender, "&e" + rank + ". &f" + entry.getKey() + " &7- " + entry.getValue() + " kills");
                 rank++;
             }
         } else if (type.equals("teams") || type.equals("points")) {
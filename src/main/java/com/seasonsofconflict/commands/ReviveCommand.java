@@ -2,6 +2,7 @@ package com.seasonsofconflict.commands;
 
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.models.PlayerData;
+import com.seasonsofconflict.models.Skill;
 import com.seasonsofconflict.models.TeamData;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.Bukkit;
@@ -58,7 +59,7 @@ public class ReviveCommand implements CommandExecutor {
         double finalCost = plugin.getSkillEffectManager().applyCombatMedicDiscount(player, baseCost);
         int cost = (int) Math.ceil(finalCost);
 
-        boolean hasCombatMedic = plugin.getSkillEffectManager().hasSkillByName(player, "combat_medic");
+        boolean hasCombatMedic = plugin.getSkillEffectManager().hasSkill(player, Skill.COMBAT_MEDIC);
 
         if (team.getQuestPoints() < cost) {
             MessageUtils.sendError(player, "Not enough points! Need " + cost + ", have " + team.getQuestPoints());
@@ -26,7 +26,7 @@ public class TerritoryCommand implements CommandExecutor {
         Player player = (Player) sender;
 
         if (args.length == 0 || args[0].equalsIgnoreCase("info")) {
-            TerritoryData territory = plugin.getTerritoryManager().getTerritoryAt(player.getLocation());
+            TerritoryData territory = plugin.getTerritoryManager().getPlayerTerritory(player);
             
             if (territory == null) {
                 MessageUtils.sendMessage(player, "&7You are not in any territory.");
@@ -0,0 +1,147 @@
+package com.seasonsofconflict.data;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQLite connections: one writer owned by the write-behind queue plus a fixed set of
+ * read-only connections that any thread may borrow.
+ *
+ * With WAL journaling, readers see the last committed state and never block the writer,
+ * so profile loads can run on worker threads while batches are being committed.
+ */
+public class ConnectionPool {
+
+    private static final long BORROW_TIMEOUT_SECONDS = 10L;
+
+    private final SeasonsOfConflict plugin;
+    private final Connection writer;
+    private final List<PooledReader> allReaders;
+    private final BlockingQueue<PooledReader> idleReaders;
+
+    public ConnectionPool(SeasonsOfConflict plugin, String url, int readerCount) throws SQLException {
+        this.plugin = plugin;
+
+        this.writer = DriverManager.getConnection(url);
+        DatabaseTuning.apply(writer, plugin.getConfig());
+
+        int size = Math.max(1, readerCount);
+        this.allReaders = new ArrayList<>(size);
+        this.idleReaders = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            Connection conn = DriverManager.getConnection(url);
+            DatabaseTuning.apply(conn, plugin.getConfig());
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA query_only = ON");
+            }
+
+            PooledReader reader = new PooledReader(conn);
+            allReaders.add(reader);
+            idleReaders.add(reader);
+        }
+    }
+
+    /**
+     * The single connection all writes go through. Only the write-behind queue (and
+     * schema setup before it starts) should use it.
+     */
+    public Connection getWriter() {
+        return writer;
+    }
+
+    /**
+     * Borrow a read-only connection. Use with try-with-resources; closing the lease
+     * returns the connection to the pool.
+     */
+    public PooledReader borrowReader() throws SQLException {
+        try {
+            PooledReader reader = idleReaders.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (reader == null) {
+                throw new SQLException("No database reader available after " + BORROW_TIMEOUT_SECONDS + "s");
+            }
+            return reader;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database reader", e);
+        }
+    }
+
+    public int getReaderCount() {
+        return allReaders.size();
+    }
+
+    public int getIdleReaderCount() {
+        return idleReaders.size();
+    }
+
+    public int getCachedStatementCount() {
+        int count = 0;
+        for (PooledReader reader : allReaders) {
+            count += reader.statements.size();
+        }
+        return count;
+    }
+
+    /**
+     * Close every connection. The write-behind queue must be drained first.
+     */
+    public void close() {
+        for (PooledReader reader : allReaders) {
+            reader.statements.close();
+            closeQuietly(reader.connection);
+        }
+        closeQuietly(writer);
+    }
+
+    private void closeQuietly(Connection conn) {
+        try {
+            if (conn != null && !conn.isClosed()) {
+                conn.close();
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to close database connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A borrowed read-only connection with its own statement cache
+     */
+    public class PooledReader implements AutoCloseable {
+        private final Connection connection;
+        private final StatementCache statements;
+
+        private PooledReader(Connection connection) {
+            this.connection = connection;
+            this.statements = new StatementCache(connection);
+        }
+
+        /**
+         * Get a cached statement for this reader. Don't close it - close the ResultSet.
+         */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            return statements.get(sql);
+        }
+
+        public Connection getConnection() {
+            return connection;
+        }
+
+        /**
+         * Return this connection to the pool
+         */
+        @Override
+        public void close() {
+            idleReaders.offer(this);
+        }
+    }
+}
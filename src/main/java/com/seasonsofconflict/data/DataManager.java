@@ -12,7 +12,9 @@ import java.util.*;
 public class DataManager {
 
     private final SeasonsOfConflict plugin;
-    private Connection connection;
+    private ConnectionPool pool;
+    private WriteBehindQueue writeQueue;
+    private QuestJournal questJournal;
 
     public DataManager(SeasonsOfConflict plugin) {
         this.plugin = plugin;
@@ -26,9 +28,23 @@ public class DataManager {
             }
 
             String url = "jdbc:sqlite:" + dataFolder.getAbsolutePath() + "/data.db";
-            connection = DriverManager.getConnection(url);
+            int readers = plugin.getConfig().getInt("database.pool.readers", 3);
+            pool = new ConnectionPool(plugin, url, readers);
             createTables();
-            plugin.getLogger().info("Database initialized successfully");
+
+            // All writes go through the pool's writer connection, owned by the write-behind thread
+            long flushInterval = plugin.getConfig().getLong("database.write_behind.flush_interval_ms", 1000L);
+            int maxBatchSize = plugin.getConfig().getInt("database.write_behind.max_batch_size", 500);
+            writeQueue = new WriteBehindQueue(plugin, pool.getWriter(), flushInterval, maxBatchSize);
+            writeQueue.start();
+
+            // Quest progress journal; fold in whatever the last run left behind
+            long compactMinutes = plugin.getConfig().getLong("quests.journal.compact_minutes", 10L);
+            questJournal = new QuestJournal(writeQueue, Math.max(1L, compactMinutes) * 60_000L);
+            questJournal.compact();
+
+            plugin.getLogger().info("Database initialized successfully (" + pool.getReaderCount() + " readers, " +
+                                    DatabaseTuning.describe(getPragmaReport()) + ")");
         } catch (SQLException e) {
             plugin.getLogger().severe("Failed to initialize database: " + e.getMessage());
             e.printStackTrace();
@@ -168,94 +184,169 @@ public class DataManager {
                 xp_multiplier REAL DEFAULT 1.0,
                 FOREIGN KEY(player_uuid) REFERENCES players(uuid)
             )
+            """,
+
+            // Daily quests: progress as of the last journal compaction
+            """
+            CREATE TABLE IF NOT EXISTS player_quests (
+                player_uuid TEXT NOT NULL,
+                quest_id INTEGER NOT NULL,
+                progress INTEGER DEFAULT 0,
+                assigned_date TEXT NOT NULL,
+                PRIMARY KEY (player_uuid, quest_id)
+            )
+            """,
+
+            // Quest progress since the last compaction (append-only)
+            """
+            CREATE TABLE IF NOT EXISTS quest_progress_journal (
+                seq INTEGER PRIMARY KEY AUTOINCREMENT,
+                player_uuid TEXT NOT NULL,
+                quest_id INTEGER NOT NULL,
+                delta INTEGER NOT NULL
+            )
+            """,
+
+            """
+            CREATE INDEX IF NOT EXISTS idx_quest_journal_player
+            ON quest_progress_journal (player_uuid, quest_id)
             """
         };
 
         for (String table : tables) {
-            try (Statement stmt = connection.createStatement()) {
+            try (Statement stmt = pool.getWriter().createStatement()) {
                 stmt.execute(table);
             }
         }
     }
 
     // Player CRUD operations
+    private static final String SAVE_PLAYER_SQL = """
+        INSERT OR REPLACE INTO players
+        (uuid, name, team_id, is_alive, revivals_used, total_kills, total_deaths,
+         kill_streak, bounty, daily_quests_completed, daily_mob_kills, daily_ores_mined)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
     public void savePlayer(PlayerData player) {
-        String sql = """
-            INSERT OR REPLACE INTO players
-            (uuid, name, team_id, is_alive, revivals_used, total_kills, total_deaths,
-             kill_streak, bounty, daily_quests_completed, daily_mob_kills, daily_ores_mined)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-            """;
+        questJournal.flush(player.getUUID());
+        writeQueue.enqueue(playerKey(player.getUUID()), SAVE_PLAYER_SQL, playerParams(player));
+    }
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, player.getUUID().toString());
-            pstmt.setString(2, player.getName());
-            pstmt.setInt(3, player.getTeamId());
-            pstmt.setInt(4, player.isAlive() ? 1 : 0);
-            pstmt.setInt(5, player.getRevivalsUsed());
-            pstmt.setInt(6, player.getTotalKills());
-            pstmt.setInt(7, player.getTotalDeaths());
-            pstmt.setInt(8, player.getKillStreak());
-            pstmt.setInt(9, player.getBounty());
-            pstmt.setInt(10, player.getDailyQuestsCompleted());
-            pstmt.setInt(11, player.getDailyMobKills());
-            pstmt.setInt(12, player.getDailyOresMined());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save player " + player.getName() + ": " + e.getMessage());
+    /**
+     * Reset every player's daily counters and quests, including players not in memory.
+     * Committed before returning, so a profile preloaded right after midnight cannot read
+     * yesterday's counters.
+     */
+    public void resetDailyStats() {
+        String sql = "UPDATE players SET daily_quests_completed = 0, daily_mob_kills = 0, daily_ores_mined = 0";
+        writeQueue.enqueue("players:daily_reset", sql);
+        questJournal.clearAll();
+        writeQueue.flush();
+    }
+
+    /**
+     * Record quest progress; appended to the quest journal on the next flush
+     */
+    public void recordQuestProgress(UUID uuid, QuestTemplate template, int delta) {
+        questJournal.record(uuid, template, delta);
+    }
+
+    /**
+     * Store a player's newly assigned quests, replacing their previous ones
+     */
+    public void saveQuests(PlayerData player) {
+        questJournal.replaceQuests(player);
+    }
+
+    /**
+     * Save many players in one batched transaction
+     */
+    public void savePlayers(Collection<PlayerData> players) {
+        questJournal.flush();
+        Map<String, Object[]> rows = new LinkedHashMap<>();
+        for (PlayerData player : players) {
+            rows.put(playerKey(player.getUUID()), playerParams(player));
         }
+        saveBatch(SAVE_PLAYER_SQL, rows);
+    }
+
+    private Object[] playerParams(PlayerData player) {
+        return new Object[] {
+            player.getUUID().toString(),
+            player.getName(),
+            player.getTeamId(),
+            player.isAlive() ? 1 : 0,
+            player.getRevivalsUsed(),
+            player.getTotalKills(),
+            player.getTotalDeaths(),
+            player.getKillStreak(),
+            player.getBounty(),
+            player.getDailyQuestsCompleted(),
+            player.getDailyMobKills(),
+            player.getDailyOresMined()
+        };
     }
 
     public PlayerData loadPlayer(UUID uuid) {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader()) {
+            return loadPlayer(uuid, reader);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to load player " + uuid + ": " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Load a player row using an already borrowed reader (null if no row)
+     */
+    public PlayerData loadPlayer(UUID uuid, ConnectionPool.PooledReader reader) throws SQLException {
         String sql = "SELECT * FROM players WHERE uuid = ?";
+        questJournal.flush(uuid);
+        writeQueue.flushIfPending(playerKey(uuid));
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, uuid.toString());
-            ResultSet rs = pstmt.executeQuery();
+        PreparedStatement pstmt = reader.prepare(sql);
+        pstmt.setString(1, uuid.toString());
 
+        PlayerData player = null;
+        try (ResultSet rs = pstmt.executeQuery()) {
             if (rs.next()) {
-                String name = rs.getString("name");
-                PlayerData player = new PlayerData(uuid, name);
-                player.setTeamId(rs.getInt("team_id"));
-                player.setAlive(rs.getInt("is_alive") == 1);
-                player.setRevivalsUsed(rs.getInt("revivals_used"));
-                player.setTotalKills(rs.getInt("total_kills"));
-                player.setTotalDeaths(rs.getInt("total_deaths"));
-                player.setKillStreak(rs.getInt("kill_streak"));
-                player.setBounty(rs.getInt("bounty"));
-                player.setDailyQuestsCompleted(rs.getInt("daily_quests_completed"));
-                player.setDailyMobKills(rs.getInt("daily_mob_kills"));
-                player.setDailyOresMined(rs.getInt("daily_ores_mined"));
-                return player;
+                player = readPlayer(uuid, rs);
             }
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to load player " + uuid + ": " + e.getMessage());
         }
-        return null;
+        if (player != null) {
+            questJournal.loadQuests(player, reader);
+        }
+        return player;
+    }
+
+    private PlayerData readPlayer(UUID uuid, ResultSet rs) throws SQLException {
+        String name = rs.getString("name");
+        PlayerData player = new PlayerData(uuid, name);
+        player.setTeamId(rs.getInt("team_id"));
+        player.setAlive(rs.getInt("is_alive") == 1);
+        player.setRevivalsUsed(rs.getInt("revivals_used"));
+        player.setTotalKills(rs.getInt("total_kills"));
+        player.setTotalDeaths(rs.getInt("total_deaths"));
+        player.setKillStreak(rs.getInt("kill_streak"));
+        player.setBounty(rs.getInt("bounty"));
+        player.setDailyQuestsCompleted(rs.getInt("daily_quests_completed"));
+        player.setDailyMobKills(rs.getInt("daily_mob_kills"));
+        player.setDailyOresMined(rs.getInt("daily_ores_mined"));
+        return player;
     }
 
     public List<PlayerData> loadAllPlayers() {
         List<PlayerData> players = new ArrayList<>();
         String sql = "SELECT * FROM players";
+        writeQueue.flush();
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader();
+             ResultSet rs = reader.prepare(sql).executeQuery()) {
 
             while (rs.next()) {
                 UUID uuid = UUID.fromString(rs.getString("uuid"));
-                String name = rs.getString("name");
-                PlayerData player = new PlayerData(uuid, name);
-                player.setTeamId(rs.getInt("team_id"));
-                player.setAlive(rs.getInt("is_alive") == 1);
-                player.setRevivalsUsed(rs.getInt("revivals_used"));
-                player.setTotalKills(rs.getInt("total_kills"));
-                player.setTotalDeaths(rs.getInt("total_deaths"));
-                player.setKillStreak(rs.getInt("kill_streak"));
-                player.setBounty(rs.getInt("bounty"));
-                player.setDailyQuestsCompleted(rs.getInt("daily_quests_completed"));
-                player.setDailyMobKills(rs.getInt("daily_mob_kills"));
-                player.setDailyOresMined(rs.getInt("daily_ores_mined"));
-                players.add(player);
+                players.add(readPlayer(uuid, rs));
             }
         } catch (SQLException e) {
             plugin.getLogger().warning("Failed to load players: " + e.getMessage());
@@ -272,42 +363,41 @@ public class DataManager {
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, team.getTeamId());
-            pstmt.setString(2, team.getName());
-            pstmt.setString(3, team.getColor().name());
-            pstmt.setInt(4, team.getQuestPoints());
-            pstmt.setInt(5, team.getHomeTerritory());
-            pstmt.setInt(6, team.isEliminated() ? 1 : 0);
-            pstmt.setInt(7, team.getWeeklyQuestId());
-            pstmt.setInt(8, team.getWeeklyQuestProgress());
-            pstmt.setLong(9, team.getLastShieldTime());
-            pstmt.setLong(10, team.getActiveShieldExpiry());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save team " + team.getName() + ": " + e.getMessage());
-        }
+        writeQueue.enqueue(teamKey(team.getTeamId()), sql,
+            team.getTeamId(),
+            team.getName(),
+            team.getColor().name(),
+            team.getQuestPoints(),
+            team.getHomeTerritory(),
+            team.isEliminated() ? 1 : 0,
+            team.getWeeklyQuestId(),
+            team.getWeeklyQuestProgress(),
+            team.getLastShieldTime(),
+            team.getActiveShieldExpiry());
     }
 
     public TeamData loadTeam(int teamId) {
         String sql = "SELECT * FROM teams WHERE team_id = ?";
+        writeQueue.flushIfPending(teamKey(teamId));
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader()) {
+            PreparedStatement pstmt = reader.prepare(sql);
             pstmt.setInt(1, teamId);
-            ResultSet rs = pstmt.executeQuery();
 
-            if (rs.next()) {
-                String name = rs.getString("name");
-                ChatColor color = ChatColor.valueOf(rs.getString("color"));
-                int homeTerritory = rs.getInt("home_territory");
-                TeamData team = new TeamData(teamId, name, color, homeTerritory);
-                team.setQuestPoints(rs.getInt("quest_points"));
-                team.setEliminated(rs.getInt("is_eliminated") == 1);
-                team.setWeeklyQuestId(rs.getInt("weekly_quest_id"));
-                team.setWeeklyQuestProgress(rs.getInt("weekly_quest_progress"));
-                team.setLastShieldTime(rs.getLong("last_shield_time"));
-                team.setActiveShieldExpiry(rs.getLong("active_shield_expiry"));
-                return team;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    String name = rs.getString("name");
+                    ChatColor color = ChatColor.valueOf(rs.getString("color"));
+                    int homeTerritory = rs.getInt("home_territory");
+                    TeamData team = new TeamData(teamId, name, color, homeTerritory);
+                    team.setQuestPoints(rs.getInt("quest_points"));
+                    team.setEliminated(rs.getInt("is_eliminated") == 1);
+                    team.setWeeklyQuestId(rs.getInt("weekly_quest_id"));
+                    team.setWeeklyQuestProgress(rs.getInt("weekly_quest_progress"));
+                    team.setLastShieldTime(rs.getLong("last_shield_time"));
+                    team.setActiveShieldExpiry(rs.getLong("active_shield_expiry"));
+                    return team;
+                }
             }
         } catch (SQLException e) {
             plugin.getLogger().warning("Failed to load team " + teamId + ": " + e.getMessage());
@@ -318,9 +408,10 @@ public class DataManager {
     public List<TeamData> loadAllTeams() {
         List<TeamData> teams = new ArrayList<>();
         String sql = "SELECT * FROM teams ORDER BY team_id";
+        writeQueue.flush();
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader();
+             ResultSet rs = reader.prepare(sql).executeQuery()) {
 
             while (rs.next()) {
                 int teamId = rs.getInt("team_id");
@@ -350,28 +441,27 @@ public class DataManager {
             VALUES (?, ?, ?, ?, ?)
             """;
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, territory.getTerritoryId());
-            pstmt.setString(2, territory.getName());
-            pstmt.setInt(3, territory.getOwnerTeamId());
-            pstmt.setInt(4, territory.getCapturingTeamId());
-            pstmt.setInt(5, territory.getCaptureProgress());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save territory " + territory.getName() + ": " + e.getMessage());
-        }
+        writeQueue.enqueue(territoryKey(territory.getTerritoryId()), sql,
+            territory.getTerritoryId(),
+            territory.getName(),
+            territory.getOwnerTeamId(),
+            territory.getCapturingTeamId(),
+            territory.getCaptureProgress());
     }
 
     public TerritoryData loadTerritory(int territoryId) {
         String sql = "SELECT * FROM territories WHERE territory_id = ?";
+        writeQueue.flushIfPending(territoryKey(territoryId));
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader()) {
+            PreparedStatement pstmt = reader.prepare(sql);
             pstmt.setInt(1, territoryId);
-            ResultSet rs = pstmt.executeQuery();
 
-            if (rs.next()) {
-                // Load from config
-                return loadTerritoryFromConfig(territoryId, rs);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    // Load from config
+                    return loadTerritoryFromConfig(territoryId, rs);
+                }
             }
         } catch (SQLException e) {
             plugin.getLogger().warning("Failed to load territory " + territoryId + ": " + e.getMessage());
@@ -408,9 +498,10 @@ public class DataManager {
     public List<TerritoryData> loadAllTerritories() {
         List<TerritoryData> territories = new ArrayList<>();
         String sql = "SELECT * FROM territories ORDER BY territory_id";
+        writeQueue.flush();
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader();
+             ResultSet rs = reader.prepare(sql).executeQuery()) {
 
             while (rs.next()) {
                 int territoryId = rs.getInt("territory_id");
@@ -433,22 +524,19 @@ public class DataManager {
             VALUES (1, ?, ?, ?, ?)
             """;
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, gameState.getCurrentSeason().name());
-            pstmt.setInt(2, gameState.getCurrentCycle());
-            pstmt.setString(3, gameState.getSeasonStartDate().toString());
-            pstmt.setInt(4, gameState.isApocalypse() ? 1 : 0);
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save game state: " + e.getMessage());
-        }
+        writeQueue.enqueue("game_state", sql,
+            gameState.getCurrentSeason().name(),
+            gameState.getCurrentCycle(),
+            gameState.getSeasonStartDate().toString(),
+            gameState.isApocalypse() ? 1 : 0);
     }
 
     public GameState loadGameState() {
         String sql = "SELECT * FROM game_state WHERE id = 1";
+        writeQueue.flushIfPending("game_state");
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader();
+             ResultSet rs = reader.prepare(sql).executeQuery()) {
 
             if (rs.next()) {
                 GameState gameState = new GameState();
@@ -466,24 +554,86 @@ public class DataManager {
         return new GameState();
     }
 
+    // Write-behind keys (one per row)
+    public static String playerKey(UUID uuid) {
+        return "players:" + uuid;
+    }
+
+    public static String teamKey(int teamId) {
+        return "teams:" + teamId;
+    }
+
+    public static String territoryKey(int territoryId) {
+        return "territories:" + territoryId;
+    }
+
     // Utility methods
+
+    /**
+     * Bulk save API: queue rows for one statement so they are written together in a
+     * single transaction through one reused PreparedStatement
+     * @param sql Statement to execute for every row
+     * @param rows Row key -> statement parameters
+     */
+    public void saveBatch(String sql, Map<String, Object[]> rows) {
+        writeQueue.enqueueAll(sql, rows);
+    }
+
     public void saveAll() {
-        // Save is handled by individual manager classes
+        // Entities are queued by individual manager classes; push them to disk now
         plugin.getLogger().info("Saving all data...");
+        if (questJournal != null) {
+            questJournal.flush();
+        }
+        if (writeQueue != null) {
+            writeQueue.flush();
+        }
     }
 
     public void close() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                plugin.getLogger().info("Database connection closed");
-            }
+        // Drain queued writes before the connections go away
+        if (writeQueue != null) {
+            writeQueue.shutdown();
+        }
+        if (pool != null) {
+            pool.close();
+            plugin.getLogger().info("Database connection closed");
+        }
+    }
+
+    /**
+     * Borrow a read-only connection; safe to call from any thread.
+     * Use with try-with-resources so the connection is returned to the pool.
+     */
+    public ConnectionPool.PooledReader borrowReader() throws SQLException {
+        return pool.borrowReader();
+    }
+
+    public WriteBehindQueue getWriteQueue() {
+        return writeQueue;
+    }
+
+    public QuestJournal getQuestJournal() {
+        return questJournal;
+    }
+
+    /**
+     * Active SQLite settings, for admin diagnostics
+     */
+    public Map<String, String> getPragmaReport() {
+        try (ConnectionPool.PooledReader reader = pool.borrowReader()) {
+            return DatabaseTuning.readPragmas(reader.getConnection());
         } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to close database connection: " + e.getMessage());
+            plugin.getLogger().warning("Failed to read database pragmas: " + e.getMessage());
+            return Collections.emptyMap();
         }
     }
 
-    public Connection getConnection() {
-        return connection;
+    public int getCachedStatementCount() {
+        return pool.getCachedStatementCount() + writeQueue.getCachedStatementCount();
+    }
+
+    public ConnectionPool getPool() {
+        return pool;
     }
 }
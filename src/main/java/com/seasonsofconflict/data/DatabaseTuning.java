@@ -0,0 +1,69 @@
+package com.seasonsofconflict.data;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQLite connection tuning from the database.sqlite section of config.yml
+ */
+public class DatabaseTuning {
+
+    private static final String[] REPORTED_PRAGMAS = {
+        "journal_mode", "synchronous", "mmap_size", "cache_size", "page_size", "busy_timeout"
+    };
+
+    /**
+     * Apply journal mode, sync level, memory-mapped I/O and page cache size to a connection.
+     * journal_mode is stored in the database file; the rest are per connection.
+     */
+    public static void apply(Connection conn, FileConfiguration config) throws SQLException {
+        String journalMode = config.getString("database.sqlite.journal_mode", "WAL");
+        String synchronous = config.getString("database.sqlite.synchronous", "NORMAL");
+        long mmapBytes = config.getLong("database.sqlite.mmap_size_mb", 64) * 1024L * 1024L;
+        // Negative cache_size is in KiB rather than pages
+        long cacheKib = config.getLong("database.sqlite.cache_size_mb", 16) * 1024L;
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = 5000");
+            stmt.execute("PRAGMA journal_mode = " + journalMode);
+            stmt.execute("PRAGMA synchronous = " + synchronous);
+            stmt.execute("PRAGMA mmap_size = " + mmapBytes);
+            stmt.execute("PRAGMA cache_size = -" + cacheKib);
+        }
+    }
+
+    /**
+     * Read back the pragmas that matter for performance
+     */
+    public static Map<String, String> readPragmas(Connection conn) throws SQLException {
+        Map<String, String> values = new LinkedHashMap<>();
+        try (Statement stmt = conn.createStatement()) {
+            for (String pragma : REPORTED_PRAGMAS) {
+                try (ResultSet rs = stmt.executeQuery("PRAGMA " + pragma)) {
+                    values.put(pragma, rs.next() ? rs.getString(1) : "?");
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Format pragma values as "name=value, name=value"
+     */
+    public static String describe(Map<String, String> pragmas) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> entry : pragmas.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,213 @@
+package com.seasonsofconflict.data;
+
+import com.seasonsofconflict.models.PlayerData;
+import com.seasonsofconflict.models.PlayerQuest;
+import com.seasonsofconflict.models.QuestTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Persists daily quest progress as a base row per quest plus an append-only journal of
+ * progress deltas.
+ *
+ * Progress events (mined ore, mob kills) only add to an in-memory delta per player and
+ * quest. Every flush interval the summed deltas are appended to the journal in one batch,
+ * so a burst of events costs one insert per quest. Compaction folds the journal into the
+ * base rows and empties it, in one transaction. A quest's progress is its base row plus
+ * the sum of its journal entries.
+ */
+public class QuestJournal {
+
+    private static final String APPEND_SQL =
+        "INSERT INTO quest_progress_journal (player_uuid, quest_id, delta) VALUES (?, ?, ?)";
+
+    private static final String[] COMPACT_SQL = {
+        """
+        UPDATE player_quests
+        SET progress = progress + (SELECT SUM(j.delta) FROM quest_progress_journal j
+                                   WHERE j.player_uuid = player_quests.player_uuid
+                                     AND j.quest_id = player_quests.quest_id)
+        WHERE EXISTS (SELECT 1 FROM quest_progress_journal j
+                      WHERE j.player_uuid = player_quests.player_uuid
+                        AND j.quest_id = player_quests.quest_id)
+        """,
+        "DELETE FROM quest_progress_journal"
+    };
+
+    private static final String LOAD_SQL = """
+        SELECT q.quest_id, q.assigned_date, q.progress + COALESCE(SUM(j.delta), 0) AS total
+        FROM player_quests q
+        LEFT JOIN quest_progress_journal j
+          ON j.player_uuid = q.player_uuid AND j.quest_id = q.quest_id
+        WHERE q.player_uuid = ?
+        GROUP BY q.quest_id, q.assigned_date, q.progress
+        """;
+
+    private final WriteBehindQueue writeQueue;
+    private final long compactIntervalMillis;
+
+    // Player -> quest id -> progress not yet appended; guarded by this (loads run off-thread)
+    private final Map<UUID, Map<Integer, Integer>> pendingDeltas;
+    private long appendSequence;
+    private long lastCompaction;
+
+    // Statistics
+    private long deltasRecorded;
+    private long rowsAppended;
+    private long compactions;
+
+    public QuestJournal(WriteBehindQueue writeQueue, long compactIntervalMillis) {
+        this.writeQueue = writeQueue;
+        this.compactIntervalMillis = compactIntervalMillis;
+        this.pendingDeltas = new HashMap<>();
+        this.lastCompaction = System.currentTimeMillis();
+    }
+
+    /**
+     * Record progress on a quest; written on the next flush
+     */
+    public synchronized void record(UUID uuid, QuestTemplate template, int delta) {
+        pendingDeltas.computeIfAbsent(uuid, k -> new HashMap<>())
+                     .merge(template.ordinal(), delta, Integer::sum);
+        deltasRecorded++;
+    }
+
+    /**
+     * Append every pending delta to the journal, one row per player and quest
+     */
+    public synchronized void flush() {
+        if (pendingDeltas.isEmpty()) return;
+
+        Map<String, Object[]> rows = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Map<Integer, Integer>> player : pendingDeltas.entrySet()) {
+            appendRows(player.getKey(), player.getValue(), rows);
+        }
+        pendingDeltas.clear();
+        writeQueue.enqueueAll(APPEND_SQL, rows);
+    }
+
+    /**
+     * Append one player's pending deltas (before their row is saved or read back)
+     */
+    public synchronized void flush(UUID uuid) {
+        Map<Integer, Integer> deltas = pendingDeltas.remove(uuid);
+        if (deltas == null) return;
+
+        Map<String, Object[]> rows = new LinkedHashMap<>();
+        appendRows(uuid, deltas, rows);
+        writeQueue.enqueueAll(APPEND_SQL, rows);
+    }
+
+    private void appendRows(UUID uuid, Map<Integer, Integer> deltas, Map<String, Object[]> rows) {
+        for (Map.Entry<Integer, Integer> delta : deltas.entrySet()) {
+            if (delta.getValue() == 0) continue;
+            // Journal rows never replace each other, so every one gets its own key
+            rows.put("quest_journal:" + (appendSequence++),
+                     new Object[] {uuid.toString(), delta.getKey(), delta.getValue()});
+            rowsAppended++;
+        }
+    }
+
+    /**
+     * Fold the journal into the base rows if the compaction interval has passed
+     */
+    public void compactIfDue() {
+        if (System.currentTimeMillis() - lastCompaction >= compactIntervalMillis) {
+            compact();
+        }
+    }
+
+    /**
+     * Fold the journal into the base rows and empty it, in one transaction
+     */
+    public synchronized void compact() {
+        flush();
+        writeQueue.enqueueGroup("quest_journal:compact", COMPACT_SQL, new Object[][] {{}, {}});
+        lastCompaction = System.currentTimeMillis();
+        compactions++;
+    }
+
+    /**
+     * Replace a player's stored quests with their current ones (on assignment)
+     */
+    public synchronized void replaceQuests(PlayerData player) {
+        UUID uuid = player.getUUID();
+        pendingDeltas.remove(uuid);
+
+        List<PlayerQuest> quests = player.getActiveQuests();
+        String[] sqls = new String[quests.size() + 2];
+        Object[][] params = new Object[sqls.length][];
+        sqls[0] = "DELETE FROM quest_progress_journal WHERE player_uuid = ?";
+        params[0] = new Object[] {uuid.toString()};
+        sqls[1] = "DELETE FROM player_quests WHERE player_uuid = ?";
+        params[1] = new Object[] {uuid.toString()};
+
+        String today = LocalDate.now().toString();
+        for (int i = 0; i < quests.size(); i++) {
+            PlayerQuest quest = quests.get(i);
+            sqls[i + 2] = "INSERT INTO player_quests (player_uuid, quest_id, progress, assigned_date) VALUES (?, ?, ?, ?)";
+            params[i + 2] = new Object[] {uuid.toString(), quest.getTemplate().ordinal(), quest.getProgress(), today};
+        }
+        writeQueue.enqueueGroup("quests:" + uuid, sqls, params);
+    }
+
+    /**
+     * Drop every stored quest (daily reset)
+     */
+    public synchronized void clearAll() {
+        pendingDeltas.clear();
+        writeQueue.enqueueGroup("quests:daily_reset",
+            new String[] {"DELETE FROM quest_progress_journal", "DELETE FROM player_quests"},
+            new Object[][] {{}, {}});
+    }
+
+    /**
+     * Load a player's quests for today (base progress plus journal) into their data
+     */
+    public void loadQuests(PlayerData player, ConnectionPool.PooledReader reader) throws SQLException {
+        PreparedStatement pstmt = reader.prepare(LOAD_SQL);
+        pstmt.setString(1, player.getUUID().toString());
+
+        String today = LocalDate.now().toString();
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                // Quests from a day the reset did not run for (server was down) are stale
+                if (!today.equals(rs.getString("assigned_date"))) continue;
+
+                QuestTemplate template = QuestTemplate.fromId(rs.getInt("quest_id"));
+                if (template == null) continue;
+
+                PlayerQuest quest = new PlayerQuest(player.getUUID(), template);
+                quest.setProgress(rs.getInt("total"));
+                player.addQuest(quest);
+            }
+        }
+    }
+
+    /**
+     * Players with progress not yet appended to the journal
+     */
+    public synchronized int getPendingPlayerCount() {
+        return pendingDeltas.size();
+    }
+
+    public synchronized long getDeltasRecorded() {
+        return deltasRecorded;
+    }
+
+    public synchronized long getRowsAppended() {
+        return rowsAppended;
+    }
+
+    public synchronized long getCompactions() {
+        return compactions;
+    }
+}
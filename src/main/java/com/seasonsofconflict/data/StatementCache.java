@@ -0,0 +1,57 @@
+package com.seasonsofconflict.data;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prepared statements for one connection, keyed by SQL string.
+ *
+ * Statements are prepared on first use and reused afterwards, so callers must not
+ * close them; close the ResultSet instead. Not thread-safe: each cache belongs to the
+ * thread that owns its connection.
+ */
+public class StatementCache {
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+
+    public StatementCache(Connection connection) {
+        this.connection = connection;
+        this.statements = new HashMap<>();
+    }
+
+    /**
+     * Get the cached statement for this SQL, preparing it on first use
+     */
+    public PreparedStatement get(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        } else {
+            statement.clearParameters();
+        }
+        return statement;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    /**
+     * Close every cached statement
+     */
+    public void close() {
+        for (PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+                // Connection is going away anyway
+            }
+        }
+        statements.clear();
+    }
+}
@@ -0,0 +1,381 @@
+package com.seasonsofconflict.data;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind queue for database updates.
+ *
+ * Writes are captured on the calling thread as parameter snapshots and keyed by the
+ * row they touch. A newer write for the same key replaces the pending one, so an entity
+ * saved many times between flushes is written once. A dedicated writer thread flushes
+ * the queue in a single transaction every flush interval (or sooner once the batch limit
+ * is reached). Statements are prepared once per SQL string and reused across flushes.
+ */
+public class WriteBehindQueue {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SeasonsOfConflict plugin;
+    private final Connection connection;
+    private final StatementCache statements;
+    private final long flushIntervalMillis;
+    private final int maxBatchSize;
+
+    // Guards pending; the writer waits on it between flushes
+    private final Object lock = new Object();
+    private LinkedHashMap<String, PendingWrite> pending;
+
+    // Serializes batch execution so batches always commit in the order they were drained
+    private final ReentrantLock writeLock;
+
+    private final Thread writerThread;
+    private volatile boolean running;
+    private boolean flushRequested;
+
+    // Statistics; updated by callers and the writer thread, read from the main thread
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public WriteBehindQueue(SeasonsOfConflict plugin, Connection connection,
+                            long flushIntervalMillis, int maxBatchSize) {
+        this.plugin = plugin;
+        this.connection = connection;
+        this.statements = new StatementCache(connection);
+        this.flushIntervalMillis = Math.max(50L, flushIntervalMillis);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.pending = new LinkedHashMap<>();
+        this.writeLock = new ReentrantLock();
+        this.writerThread = new Thread(this::runWriter, "SeasonsOfConflict-DB-Writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * Start the background writer thread
+     */
+    public void start() {
+        running = true;
+        writerThread.start();
+    }
+
+    /**
+     * Queue a write. Parameters are captured immediately, so callers may keep mutating
+     * the entity they came from.
+     * @param key Row identity (e.g. "players:&lt;uuid&gt;"); a newer write with the same key replaces this one
+     * @param sql Statement to execute
+     * @param params Statement parameters in order
+     */
+    public void enqueue(String key, String sql, Object... params) {
+        PendingWrite write = new PendingWrite(key, sql, params.clone());
+
+        synchronized (lock) {
+            // Remove first so the replacement moves to the end and stays ordered after
+            // any overlapping write (e.g. a DELETE of all rows) queued in between
+            if (pending.remove(key) != null) {
+                coalescedCount.incrementAndGet();
+            }
+            pending.put(key, write);
+            enqueuedCount.incrementAndGet();
+
+            if (pending.size() >= maxBatchSize) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Queue many rows for the same statement at once. The rows are added atomically,
+     * so the writer commits them together in one transaction, and the writer is woken
+     * immediately instead of waiting for the next interval.
+     * @param sql Statement to execute for every row
+     * @param rows Row key -> statement parameters, in write order
+     */
+    public void enqueueAll(String sql, Map<String, Object[]> rows) {
+        if (rows.isEmpty()) return;
+
+        synchronized (lock) {
+            for (Map.Entry<String, Object[]> row : rows.entrySet()) {
+                String key = row.getKey();
+                if (pending.remove(key) != null) {
+                    coalescedCount.incrementAndGet();
+                }
+                pending.put(key, new PendingWrite(key, sql, row.getValue().clone()));
+                enqueuedCount.incrementAndGet();
+            }
+            flushRequested = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Queue statements that must commit together, in order. They are added under one
+     * lock hold, so the writer always drains them into the same transaction.
+     * @param keyPrefix Row keys are keyPrefix + ":" + statement index
+     * @param sqls Statements to execute, in order
+     * @param params Parameters for each statement
+     */
+    public void enqueueGroup(String keyPrefix, String[] sqls, Object[][] params) {
+        synchronized (lock) {
+            for (int i = 0; i < sqls.length; i++) {
+                String key = keyPrefix + ":" + i;
+                if (pending.remove(key) != null) {
+                    coalescedCount.incrementAndGet();
+                }
+                pending.put(key, new PendingWrite(key, sqls[i], params[i].clone()));
+                enqueuedCount.incrementAndGet();
+            }
+
+            if (pending.size() >= maxBatchSize) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Check whether a write for this key has not reached the database yet
+     */
+    public boolean isPending(String key) {
+        synchronized (lock) {
+            return pending.containsKey(key);
+        }
+    }
+
+    /**
+     * Flush synchronously if a write for this key is still queued.
+     * Used before reading a row back from the database. Waits for a batch the writer
+     * thread has already drained but not yet committed, which isPending no longer sees.
+     */
+    public void flushIfPending(String key) {
+        writeLock.lock();
+        try {
+            if (isPending(key)) {
+                writeBatch(drain());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Flush synchronously if any write whose key starts with this prefix is still queued.
+     * Used before reading back rows that are keyed more finely than the read.
+     * @param keyPrefix e.g. "skill_cooldowns:&lt;uuid&gt;" for every cooldown of one player
+     */
+    public void flushIfPendingPrefix(String keyPrefix) {
+        writeLock.lock();
+        try {
+            if (isPendingPrefix(keyPrefix)) {
+                writeBatch(drain());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isPendingPrefix(String keyPrefix) {
+        synchronized (lock) {
+            for (String key : pending.keySet()) {
+                if (key.startsWith(keyPrefix)) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Write everything queued so far on the calling thread, waiting for any batch the
+     * writer thread is currently committing.
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            writeBatch(drain());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stop the writer thread and drain remaining writes synchronously
+     */
+    public void shutdown() {
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+
+        try {
+            writerThread.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+        statements.close();
+        plugin.getLogger().info("Write-behind queue drained (" + writtenCount.get() + " writes, " +
+                                coalescedCount.get() + " coalesced, " + failedCount.get() + " failed)");
+    }
+
+    private void runWriter() {
+        while (running) {
+            synchronized (lock) {
+                if (running && !flushRequested && pending.size() < maxBatchSize) {
+                    try {
+                        lock.wait(flushIntervalMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                flushRequested = false;
+            }
+
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Write-behind flush failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private List<PendingWrite> drain() {
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return List.of();
+            }
+            List<PendingWrite> batch = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+            return batch;
+        }
+    }
+
+    /**
+     * Execute a batch in one transaction, preserving queue order
+     */
+    private void writeBatch(List<PendingWrite> batch) {
+        if (batch.isEmpty()) return;
+
+        try {
+            connection.setAutoCommit(false);
+
+            PreparedStatement current = null;
+            String currentSql = null;
+            for (PendingWrite write : batch) {
+                if (!write.sql.equals(currentSql)) {
+                    // Flush the previous run before switching statements so that
+                    // writes touching the same rows execute in queue order
+                    if (current != null) {
+                        current.executeBatch();
+                    }
+                    currentSql = write.sql;
+                    current = statements.get(currentSql);
+                }
+
+                for (int i = 0; i < write.params.length; i++) {
+                    current.setObject(i + 1, write.params[i]);
+                }
+                current.addBatch();
+            }
+            if (current != null) {
+                current.executeBatch();
+            }
+
+            connection.commit();
+            writtenCount.addAndGet(batch.size());
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to write " + batch.size() + " queued updates: " + e.getMessage());
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackError) {
+                plugin.getLogger().warning("Failed to roll back write batch: " + rollbackError.getMessage());
+            }
+            // Cached statements may hold half-built batches; start clean next time
+            statements.close();
+            requeue(batch);
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                plugin.getLogger().warning("Failed to restore auto-commit: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Put a failed batch back unless a newer write for the same key has arrived
+     */
+    private void requeue(List<PendingWrite> batch) {
+        synchronized (lock) {
+            LinkedHashMap<String, PendingWrite> retry = new LinkedHashMap<>();
+            for (PendingWrite write : batch) {
+                if (++write.attempts >= MAX_ATTEMPTS) {
+                    failedCount.incrementAndGet();
+                    plugin.getLogger().warning("Dropping write for " + write.key + " after " +
+                                               MAX_ATTEMPTS + " attempts");
+                } else if (!pending.containsKey(write.key)) {
+                    retry.put(write.key, write);
+                }
+            }
+            // Retried writes are older than anything queued since, so they go first
+            retry.putAll(pending);
+            pending = retry;
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getCachedStatementCount() {
+        writeLock.lock();
+        try {
+            return statements.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * A queued statement with its captured parameters
+     */
+    private static class PendingWrite {
+        private final String key;
+        private final String sql;
+        private final Object[] params;
+        private int attempts;
+
+        private PendingWrite(String key, String sql, Object[] params) {
+            this.key = key;
+            this.sql = sql;
+            this.params = params;
+        }
+    }
+}
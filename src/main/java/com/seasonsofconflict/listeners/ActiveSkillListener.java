@@ -3,6 +3,7 @@ package com.seasonsofconflict.listeners;
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.managers.CooldownManager;
 import com.seasonsofconflict.managers.SkillEffectManager;
+import com.seasonsofconflict.models.Skill;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.*;
 import org.bukkit.entity.*;
@@ -86,7 +87,7 @@ public class ActiveSkillListener implements Listener {
      */
     private void tryActivateCombatSkill(Player player, ItemStack weapon) {
         // Whirlwind Strike (Tier 3)
-        if (effectManager.hasSkillByName(player, "whirlwind_strike")) {
+        if (effectManager.hasSkill(player, Skill.WHIRLWIND_STRIKE)) {
             if (cooldownManager.tryActivateSkill(player, "whirlwind_strike", 60)) {
                 activateWhirlwindStrike(player);
             }
@@ -95,7 +96,7 @@ public class ActiveSkillListener implements Listener {
 
         // Note: Last Stand is passive-triggered, not manual
         // Warlord's Rampage (Ultimate)
-        if (effectManager.hasSkillByName(player, "warlords_rampage")) {
+        if (effectManager.hasSkill(player, Skill.WARLORDS_RAMPAGE)) {
             if (cooldownManager.tryActivateSkill(player, "warlords_rampage", 300)) {
                 activateWarlordsRampage(player);
             }
@@ -108,7 +109,7 @@ public class ActiveSkillListener implements Listener {
      */
     private void tryActivateGatheringSkill(Player player, ItemStack tool) {
         // Vein Miner (Tier 2)
-        if (effectManager.hasSkillByName(player, "vein_miner")) {
+        if (effectManager.hasSkill(player, Skill.VEIN_MINER)) {
             if (cooldownManager.tryActivateSkill(player, "vein_miner", 30)) {
                 primeVeinMiner(player);
             }
@@ -116,7 +117,7 @@ public class ActiveSkillListener implements Listener {
         }
 
         // Ore Transmutation (Tier 3)
-        if (effectManager.hasSkillByName(player, "ore_transmutation")) {
+        if (effectManager.hasSkill(player, Skill.ORE_TRANSMUTATION)) {
             if (cooldownManager.tryActivateSkill(player, "ore_transmutation", 600)) {
                 activateOreTransmutation(player);
             }
@@ -124,7 +125,7 @@ public class ActiveSkillListener implements Listener {
         }
 
         // Midas Touch (Ultimate)
-        if (effectManager.hasSkillByName(player, "midas_touch")) {
+        if (effectManager.hasSkill(player, Skill.MIDAS_TOUCH)) {
             if (cooldownManager.tryActivateSkill(player, "midas_touch", 600)) {
                 activateMidasTouch(player);
             }
@@ -137,7 +138,7 @@ public class ActiveSkillListener implements Listener {
      */
     private void tryActivateSurvivalSkill(Player player, ItemStack item) {
         // Immortal Fortress (Ultimate)
-        if (effectManager.hasSkillByName(player, "immortal_fortress")) {
+        if (effectManager.hasSkill(player, Skill.IMMORTAL_FORTRESS)) {
             if (cooldownManager.tryActivateSkill(player, "immortal_fortress", 600)) {
                 activateImmortalFortress(player);
             }
@@ -152,7 +153,7 @@ public class ActiveSkillListener implements Listener {
      */
     private void tryActivateTeamworkSkill(Player player) {
         // Rally Cry (Tier 1)
-        if (effectManager.hasSkillByName(player, "rally_cry")) {
+        if (effectManager.hasSkill(player, Skill.RALLY_CRY)) {
             if (cooldownManager.tryActivateSkill(player, "rally_cry", 120)) {
                 activateRallyCry(player);
             }
@@ -160,7 +161,7 @@ public class ActiveSkillListener implements Listener {
         }
 
         // Healer's Touch (Tier 2)
-        if (effectManager.hasSkillByName(player, "healers_touch")) {
+        if (effectManager.hasSkill(player, Skill.HEALERS_TOUCH)) {
             if (cooldownManager.tryActivateSkill(player, "healers_touch", 60)) {
                 activateHealersTouch(player);
             }
@@ -168,7 +169,7 @@ public class ActiveSkillListener implements Listener {
         }
 
         // Tactical Retreat (Tier 3)
-        if (effectManager.hasSkillByName(player, "tactical_retreat")) {
+        if (effectManager.hasSkill(player, Skill.TACTICAL_RETREAT)) {
             if (cooldownManager.tryActivateSkill(player, "tactical_retreat", 300)) {
                 activateTacticalRetreat(player);
             }
@@ -176,7 +177,7 @@ public class ActiveSkillListener implements Listener {
         }
 
         // Supply Drop (Tier 3)
-        if (effectManager.hasSkillByName(player, "supply_drop")) {
+        if (effectManager.hasSkill(player, Skill.SUPPLY_DROP)) {
             if (cooldownManager.tryActivateSkill(player, "supply_drop", 600)) {
                 activateSupplyDrop(player);
             }
@@ -184,7 +185,7 @@ public class ActiveSkillListener implements Listener {
         }
 
         // Commander's Blessing (Ultimate)
-        if (effectManager.hasSkillByName(player, "commanders_blessing")) {
+        if (effectManager.hasSkill(player, Skill.COMMANDERS_BLESSING)) {
             if (cooldownManager.tryActivateSkill(player, "commanders_blessing", 900)) {
                 activateCommandersBlessing(player);
             }
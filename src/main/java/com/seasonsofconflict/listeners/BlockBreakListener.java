@@ -3,7 +3,9 @@ package com.seasonsofconflict.listeners;
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.models.BonusType;
 import com.seasonsofconflict.models.PlayerData;
+import com.seasonsofconflict.models.QuestProgressKey;
 import com.seasonsofconflict.models.Season;
+import com.seasonsofconflict.models.Skill;
 import com.seasonsofconflict.models.TerritoryData;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.Location;
@@ -69,15 +71,15 @@ public class BlockBreakListener implements Listener {
             }
 
             if (type == Material.IRON_ORE || type == Material.DEEPSLATE_IRON_ORE) {
-                plugin.getQuestManager().updateQuestProgress(player, "iron_mined", 1);
+                plugin.getQuestManager().updateQuestProgress(player, QuestProgressKey.IRON_MINED, 1);
             } else if (type == Material.COAL_ORE || type == Material.DEEPSLATE_COAL_ORE) {
-                plugin.getQuestManager().updateQuestProgress(player, "coal_mined", 1);
+                plugin.getQuestManager().updateQuestProgress(player, QuestProgressKey.COAL_MINED, 1);
             } else if (type == Material.DIAMOND_ORE || type == Material.DEEPSLATE_DIAMOND_ORE) {
                 // Read diamond drop chance from config (default 10%)
                 double dropChance = plugin.getConfig().getDouble("diamond.drop_chance", 0.10);
 
                 // Diamond Hunter skill: Increase drop rate to 30%
-                if (plugin.getSkillEffectManager().hasSkillByName(player, "diamond_hunter")) {
+                if (plugin.getSkillEffectManager().hasSkill(player, Skill.DIAMOND_HUNTER)) {
                     dropChance = 0.30;
                 }
 
@@ -102,7 +104,7 @@ public class BlockBreakListener implements Listener {
                 }
             }
 
-            plugin.getQuestManager().updateQuestProgress(player, "logs_chopped", 1);
+            plugin.getQuestManager().updateQuestProgress(player, QuestProgressKey.LOGS_CHOPPED, 1);
         } else if (isCrop(type)) {
             // Winter: -50% food production
             if (season == Season.WINTER) {
@@ -0,0 +1,31 @@
+package com.seasonsofconflict.listeners;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Tells the chunk-based indexes (heat sources, block sampler) about chunk loads and unloads
+ */
+public class ChunkListener implements Listener {
+
+    private final SeasonsOfConflict plugin;
+
+    public ChunkListener(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        plugin.getHeatSourceIndex().indexChunk(event.getChunk());
+        plugin.getBlockSampler().chunkLoaded(event.getChunk());
+    }
+
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        plugin.getHeatSourceIndex().unloadChunk(event.getChunk());
+        plugin.getBlockSampler().chunkUnloaded(event.getChunk());
+    }
+}
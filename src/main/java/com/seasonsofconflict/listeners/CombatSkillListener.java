@@ -2,6 +2,7 @@ package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.managers.SkillEffectManager;
+import com.seasonsofconflict.models.Skill;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.*;
 import org.bukkit.entity.LivingEntity;
@@ -69,7 +70,7 @@ public class CombatSkillListener implements Listener {
         double finalDamage = baseDamage;
 
         // Apply Bloodlust (+5% damage per stack, max 3 stacks)
-        if (effectManager.hasSkillByName(attacker, "bloodlust")) {
+        if (effectManager.hasSkill(attacker, Skill.BLOODLUST)) {
             double bloodlustDamage = effectManager.applyBloodlust(attacker, target.getUniqueId(), finalDamage);
 
             if (bloodlustDamage > finalDamage) {
@@ -90,7 +91,7 @@ public class CombatSkillListener implements Listener {
         }
 
         // Apply Critical Precision (20% chance for +50% damage)
-        if (effectManager.hasSkillByName(attacker, "critical_precision")) {
+        if (effectManager.hasSkill(attacker, Skill.CRITICAL_PRECISION)) {
             double critDamage = effectManager.applyCriticalPrecision(attacker, finalDamage);
 
             if (critDamage > finalDamage) {
@@ -118,7 +119,7 @@ public class CombatSkillListener implements Listener {
         }
 
         // Apply Execution (bonus damage to low HP targets)
-        if (effectManager.hasSkillByName(attacker, "execution")) {
+        if (effectManager.hasSkill(attacker, Skill.EXECUTION)) {
             double healthPercent = target.getHealth() / target.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue();
             double executeDamage = effectManager.applyExecution(attacker, finalDamage, healthPercent);
 
@@ -144,7 +145,7 @@ public class CombatSkillListener implements Listener {
 
         // Apply Armor Breaker (30% armor penetration)
         // Note: This is simplified - full implementation would require calculating armor values
-        if (effectManager.hasSkillByName(attacker, "armor_breaker")) {
+        if (effectManager.hasSkill(attacker, Skill.ARMOR_BREAKER)) {
             // Add 30% of base damage as true damage (bypassing armor)
             finalDamage = finalDamage * 1.15; // Approximate armor penetration effect
 
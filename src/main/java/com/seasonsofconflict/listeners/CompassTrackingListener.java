@@ -1,6 +1,7 @@
 package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.managers.PlayerGrid;
 import com.seasonsofconflict.models.PlayerData;
 import com.seasonsofconflict.models.TerritoryData;
 import com.seasonsofconflict.utils.MessageUtils;
@@ -151,25 +152,11 @@ public class CompassTrackingListener implements Listener {
      * Get nearest living teammate location
      */
     private Location getNearestTeammate(Player player, int teamId) {
-        Location playerLoc = player.getLocation();
-        Location nearest = null;
-        double nearestDistance = Double.MAX_VALUE;
-
-        for (Player online : plugin.getServer().getOnlinePlayers()) {
-            if (online.getUniqueId().equals(player.getUniqueId())) continue; // Skip self
-
-            PlayerData data = plugin.getGameManager().getPlayerData(online);
-            if (data.getTeamId() == teamId && data.isAlive()) {
-                double distance = playerLoc.distance(online.getLocation());
+        UUID self = player.getUniqueId();
+        PlayerGrid.Entry nearest = plugin.getPlayerGrid().getNearest(player.getLocation(),
+            entry -> entry.getTeamId() == teamId && entry.isAlive() && !entry.getUUID().equals(self));
 
-                if (distance < nearestDistance) {
-                    nearestDistance = distance;
-                    nearest = online.getLocation();
-                }
-            }
-        }
-
-        return nearest;
+        return nearest != null ? nearest.getLocation() : null;
     }
 
     /**
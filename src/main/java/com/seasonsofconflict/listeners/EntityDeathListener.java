@@ -3,7 +3,9 @@ package com.seasonsofconflict.listeners;
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.models.BonusType;
 import com.seasonsofconflict.models.PlayerData;
+import com.seasonsofconflict.models.QuestProgressKey;
 import com.seasonsofconflict.models.Season;
+import com.seasonsofconflict.models.Skill;
 import org.bukkit.Material;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
@@ -35,9 +37,11 @@ public class EntityDeathListener implements Listener {
             PlayerData data = plugin.getGameManager().getPlayerData(killer);
             data.incrementDailyMobKills();
 
-            String mobType = entity.getType().name().toLowerCase();
-            plugin.getQuestManager().updateQuestProgress(killer, mobType + "_kills", 1);
-            plugin.getQuestManager().updateQuestProgress(killer, "mob_kills", 1);
+            QuestProgressKey mobKey = QuestProgressKey.forKill(entity.getType());
+            if (mobKey != null) {
+                plugin.getQuestManager().updateQuestProgress(killer, mobKey, 1);
+            }
+            plugin.getQuestManager().updateQuestProgress(killer, QuestProgressKey.MOB_KILLS, 1);
 
             double xpBonus = plugin.getTerritoryManager().getTerritoryBonus(killer, BonusType.XP);
             if (xpBonus > 1.0) {
@@ -45,7 +49,7 @@ public class EntityDeathListener implements Listener {
             }
 
             // Relentless Assault: Each kill grants +20% attack speed for 10s (stacks 3x)
-            if (plugin.getSkillEffectManager().hasSkillByName(killer, "relentless_assault")) {
+            if (plugin.getSkillEffectManager().hasSkill(killer, Skill.RELENTLESS_ASSAULT)) {
                 applyRelentlessAssault(killer);
             }
 
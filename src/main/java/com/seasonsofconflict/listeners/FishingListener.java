@@ -3,7 +3,9 @@ package com.seasonsofconflict.listeners;
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.managers.SkillEffectManager;
 import com.seasonsofconflict.models.BonusType;
+import com.seasonsofconflict.models.QuestProgressKey;
 import com.seasonsofconflict.models.Season;
+import com.seasonsofconflict.models.Skill;
 import org.bukkit.*;
 import org.bukkit.entity.FishHook;
 import org.bukkit.entity.Item;
@@ -40,7 +42,7 @@ public class FishingListener implements Listener {
         Player player = event.getPlayer();
 
         // Efficient Fishing: Reduce fishing wait time by 50%
-        if (effectManager.hasSkillByName(player, "efficient_fishing")) {
+        if (effectManager.hasSkill(player, Skill.EFFICIENT_FISHING)) {
             if (event.getHook() != null) {
                 FishHook hook = event.getHook();
 
@@ -74,7 +76,7 @@ public class FishingListener implements Listener {
         Season season = plugin.getGameManager().getGameState().getCurrentSeason();
 
         // Efficient Fishing: +30% treasure chance
-        if (effectManager.hasSkillByName(player, "efficient_fishing")) {
+        if (effectManager.hasSkill(player, Skill.EFFICIENT_FISHING)) {
             if (isRegularFish(item.getType()) && random.nextDouble() < 0.30) {
                 // Replace regular fish with treasure
                 ItemStack treasure = getTreasureItem();
@@ -125,7 +127,7 @@ public class FishingListener implements Listener {
         }
 
         // Update quest progress
-        plugin.getQuestManager().updateQuestProgress(player, "fish_caught", 1);
+        plugin.getQuestManager().updateQuestProgress(player, QuestProgressKey.FISH_CAUGHT, 1);
     }
 
     private boolean isFood(Material type) {
@@ -2,6 +2,7 @@ package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.managers.SkillEffectManager;
+import com.seasonsofconflict.models.Skill;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
@@ -45,7 +46,7 @@ public class FurnaceListener implements Listener {
                 continue;
             }
 
-            if (effectManager.hasSkillByName(player, "bulk_processing")) {
+            if (effectManager.hasSkill(player, Skill.BULK_PROCESSING)) {
                 // 25% chance to double the smelted item
                 if (Math.random() < 0.25) {
                     // Add bonus item to furnace result slot
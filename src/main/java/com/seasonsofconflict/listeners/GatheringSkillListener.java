@@ -1,7 +1,10 @@
 package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.managers.BlockOperationScheduler;
+import com.seasonsofconflict.managers.PlayerGrid;
 import com.seasonsofconflict.managers.SkillEffectManager;
+import com.seasonsofconflict.models.Skill;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.*;
 import org.bukkit.block.Block;
@@ -100,7 +103,7 @@ public class GatheringSkillListener implements Listener {
         }
 
         // Prospector: +20% bonus drops from iron/gold/coal ores
-        if (isCommonOre(blockType) && effectManager.hasSkillByName(player, "prospector")) {
+        if (isCommonOre(blockType) && effectManager.hasSkill(player, Skill.PROSPECTOR)) {
             // 20% chance for bonus drop
             if (Math.random() < 0.20) {
                 for (ItemStack drop : block.getDrops(player.getInventory().getItemInMainHand())) {
@@ -119,7 +122,7 @@ public class GatheringSkillListener implements Listener {
         }
 
         // Lumberjack: +50% wood drops + tree felling
-        if (isLog(blockType) && effectManager.hasSkillByName(player, "lumberjack")) {
+        if (isLog(blockType) && effectManager.hasSkill(player, Skill.LUMBERJACK)) {
             // Apply +50% wood drops
             int normalDrops = 1;
             int bonusDrops = effectManager.applyLumberjack(player, normalDrops);
@@ -233,61 +236,42 @@ public class GatheringSkillListener implements Listener {
     }
 
     /**
-     * Break connected ores of the same type (Vein Miner)
+     * Break connected ores of the same type (Vein Miner), a few per tick
      */
     private void breakConnectedOres(Player player, Block startBlock, Material oreType, int maxOres) {
-        java.util.Set<Block> visited = new java.util.HashSet<>();
-        java.util.Queue<Block> toCheck = new java.util.LinkedList<>();
-        toCheck.add(startBlock);
-        visited.add(startBlock);
-
-        int brokenCount = 0;
-
-        while (!toCheck.isEmpty() && brokenCount < maxOres) {
-            Block current = toCheck.poll();
-
-            // Check all 6 adjacent blocks
-            for (org.bukkit.util.Vector offset : new org.bukkit.util.Vector[]{
-                new org.bukkit.util.Vector(1, 0, 0),
-                new org.bukkit.util.Vector(-1, 0, 0),
-                new org.bukkit.util.Vector(0, 1, 0),
-                new org.bukkit.util.Vector(0, -1, 0),
-                new org.bukkit.util.Vector(0, 0, 1),
-                new org.bukkit.util.Vector(0, 0, -1)
-            }) {
-                Block adjacent = current.getRelative(offset.getBlockX(), offset.getBlockY(), offset.getBlockZ());
-
-                if (!visited.contains(adjacent) && adjacent.getType() == oreType) {
-                    visited.add(adjacent);
-                    toCheck.add(adjacent);
-
-                    // Break the ore and give drops
-                    for (ItemStack drop : adjacent.getDrops(player.getInventory().getItemInMainHand())) {
-                        adjacent.getWorld().dropItemNaturally(adjacent.getLocation(), drop);
-                    }
-                    adjacent.setType(Material.AIR);
-
-                    // Visual: Small explosion particles
-                    adjacent.getWorld().spawnParticle(
-                        Particle.BLOCK_CRACK,
-                        adjacent.getLocation().add(0.5, 0.5, 0.5),
-                        10,
-                        0.3, 0.3, 0.3,
-                        0.1,
-                        adjacent.getBlockData()
-                    );
+        plugin.getBlockOperationScheduler().submit(new BlockOperationScheduler.AreaBreak(player, startBlock, maxOres, false) {
+            @Override
+            protected boolean matches(Block block) {
+                return block.getType() == oreType;
+            }
 
-                    brokenCount++;
-                    if (brokenCount >= maxOres) {
-                        break;
-                    }
+            @Override
+            protected void collectDrops(Player player, Block block) {
+                for (ItemStack drop : block.getDrops(getTool())) {
+                    addDrop(drop);
                 }
             }
-        }
 
-        if (brokenCount > 0) {
-            MessageUtils.sendMessage(player, "&7Vein mined &e" + brokenCount + " &7additional ores!");
-        }
+            @Override
+            protected void onBreak(Block block, Material brokenType, int index) {
+                // Visual: Small explosion particles
+                block.getWorld().spawnParticle(
+                    Particle.BLOCK_CRACK,
+                    block.getLocation().add(0.5, 0.5, 0.5),
+                    10,
+                    0.3, 0.3, 0.3,
+                    0.1,
+                    brokenType.createBlockData()
+                );
+            }
+
+            @Override
+            protected void onComplete(Player player, int brokenCount) {
+                if (player != null && brokenCount > 0) {
+                    MessageUtils.sendMessage(player, "&7Vein mined &e" + brokenCount + " &7additional ores!");
+                }
+            }
+        });
     }
 
     /**
@@ -300,69 +284,47 @@ public class GatheringSkillListener implements Listener {
     }
 
     /**
-     * Fell entire tree starting from bottom log
+     * Fell entire tree starting from bottom log, a few logs per tick
      */
     private void fellTree(Player player, Block startBlock, Material logType) {
-        java.util.Set<Block> visited = new java.util.HashSet<>();
-        java.util.Queue<Block> toCheck = new java.util.LinkedList<>();
-        toCheck.add(startBlock);
-        visited.add(startBlock);
-
-        int felledCount = 0;
-        int maxLogs = 128; // Prevent infinite loops on huge structures
-
-        while (!toCheck.isEmpty() && felledCount < maxLogs) {
-            Block current = toCheck.poll();
-
-            // Check all adjacent blocks (including diagonals for branches)
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    for (int dz = -1; dz <= 1; dz++) {
-                        if (dx == 0 && dy == 0 && dz == 0) continue;
-
-                        Block adjacent = current.getRelative(dx, dy, dz);
-
-                        if (!visited.contains(adjacent) && isLog(adjacent.getType())) {
-                            visited.add(adjacent);
-                            toCheck.add(adjacent);
-
-                            // Apply +50% bonus to each log
-                            int bonusDrops = effectManager.applyLumberjack(player, 1);
-
-                            // Drop the log with bonus
-                            for (int i = 0; i < bonusDrops; i++) {
-                                ItemStack logDrop = new ItemStack(adjacent.getType(), 1);
-                                adjacent.getWorld().dropItemNaturally(adjacent.getLocation(), logDrop);
-                            }
-
-                            // Break the log
-                            adjacent.setType(Material.AIR);
-
-                            // Small leaf particles
-                            if (felledCount % 3 == 0) { // Not every log to reduce lag
-                                adjacent.getWorld().spawnParticle(
-                                    Particle.BLOCK_CRACK,
-                                    adjacent.getLocation().add(0.5, 0.5, 0.5),
-                                    5,
-                                    0.3, 0.3, 0.3,
-                                    0.05,
-                                    Material.OAK_LEAVES.createBlockData()
-                                );
-                            }
-
-                            felledCount++;
-                            if (felledCount >= maxLogs) {
-                                break;
-                            }
-                        }
-                    }
+        int maxLogs = 128; // Prevent runaway breaks on huge structures
+
+        // Check all adjacent blocks (including diagonals for branches)
+        plugin.getBlockOperationScheduler().submit(new BlockOperationScheduler.AreaBreak(player, startBlock, maxLogs, true) {
+            @Override
+            protected boolean matches(Block block) {
+                return isLog(block.getType());
+            }
+
+            @Override
+            protected void collectDrops(Player player, Block block) {
+                // Apply +50% bonus to each log
+                int bonusDrops = effectManager.applyLumberjack(player, 1);
+                addDrop(new ItemStack(block.getType(), bonusDrops));
+            }
+
+            @Override
+            protected void onBreak(Block block, Material brokenType, int index) {
+                // Small leaf particles
+                if (index % 3 == 0) { // Not every log to reduce lag
+                    block.getWorld().spawnParticle(
+                        Particle.BLOCK_CRACK,
+                        block.getLocation().add(0.5, 0.5, 0.5),
+                        5,
+                        0.3, 0.3, 0.3,
+                        0.05,
+                        Material.OAK_LEAVES.createBlockData()
+                    );
                 }
             }
-        }
 
-        if (felledCount > 0) {
-            MessageUtils.sendMessage(player, "&6🪓 &eFelled tree: &a" + (felledCount + 1) + " &elogs!");
-        }
+            @Override
+            protected void onComplete(Player player, int brokenCount) {
+                if (player != null && brokenCount > 0) {
+                    MessageUtils.sendMessage(player, "&6🪓 &eFelled tree: &a" + (brokenCount + 1) + " &elogs!");
+                }
+            }
+        });
     }
 
     /**
@@ -374,7 +336,7 @@ public class GatheringSkillListener implements Listener {
         ItemStack tool = event.getItem();
 
         // Check if player has Tool Durability skill
-        if (!effectManager.hasSkillByName(player, "tool_durability")) {
+        if (!effectManager.hasSkill(player, Skill.TOOL_DURABILITY)) {
             return;
         }
 
@@ -407,14 +369,9 @@ public class GatheringSkillListener implements Listener {
         Location itemLoc = item.getLocation();
 
         // Find nearby players with Resource Magnet
-        for (Player player : org.bukkit.Bukkit.getOnlinePlayers()) {
-            // Check if within 8 blocks
-            if (!player.getWorld().equals(itemLoc.getWorld()) ||
-                player.getLocation().distance(itemLoc) > 8.0) {
-                continue;
-            }
-
-            if (effectManager.hasSkillByName(player, "resource_magnet")) {
+        for (PlayerGrid.Entry nearby : plugin.getPlayerGrid().getPlayersInRadius(itemLoc, 8.0)) {
+            Player player = nearby.getPlayer();
+            if (effectManager.hasSkill(player, Skill.RESOURCE_MAGNET)) {
                 // Pull item toward player
                 Vector direction = player.getLocation().toVector().subtract(itemLoc.toVector()).normalize();
                 item.setVelocity(direction.multiply(0.3));
@@ -0,0 +1,59 @@
+package com.seasonsofconflict.listeners;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.managers.HeatSourceIndex;
+import org.bukkit.Material;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+
+/**
+ * Keeps the heat source index in step with block changes (chunk loads go through
+ * {@link ChunkListener})
+ */
+public class HeatSourceListener implements Listener {
+
+    private final SeasonsOfConflict plugin;
+
+    public HeatSourceListener(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        if (HeatSourceIndex.isHeatSource(event.getBlockPlaced().getType())) {
+            plugin.getHeatSourceIndex().add(event.getBlockPlaced());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        if (HeatSourceIndex.isHeatSource(event.getBlock().getType())) {
+            plugin.getHeatSourceIndex().remove(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(BlockIgniteEvent event) {
+        plugin.getHeatSourceIndex().add(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        if (event.getBucket() == Material.LAVA_BUCKET) {
+            plugin.getHeatSourceIndex().add(event.getBlockClicked().getRelative(event.getBlockFace()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLavaFlow(BlockFromToEvent event) {
+        if (event.getBlock().getType() == Material.LAVA) {
+            plugin.getHeatSourceIndex().add(event.getToBlock());
+        }
+    }
+}
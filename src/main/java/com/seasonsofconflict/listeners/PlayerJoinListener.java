@@ -21,6 +21,7 @@ public class PlayerJoinListener implements Listener {
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        plugin.getGameManager().markOnline(player.getUniqueId());
         PlayerData data = plugin.getGameManager().getPlayerData(player);
 
         data.setName(player.getName());
@@ -51,5 +52,9 @@ public class PlayerJoinListener implements Listener {
                 player.setGameMode(GameMode.SURVIVAL);
             }
         }
+
+        // Joining places the player without a move event
+        plugin.getTerritoryManager().updatePlayerTerritory(player, player.getLocation());
+        plugin.getHudManager().invalidate(player);
     }
 }
@@ -1,14 +1,25 @@
 package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
-import com.seasonsofconflict.models.PlayerData;
 import com.seasonsofconflict.models.TerritoryData;
 import com.seasonsofconflict.utils.MessageUtils;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleExitEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
 
+/**
+ * Keeps each player's cached territory membership current. Teleports don't fire
+ * PlayerMoveEvent handlers, and neither does riding a vehicle, so both are tracked
+ * separately.
+ */
 public class PlayerMoveListener implements Listener {
 
     private final SeasonsOfConflict plugin;
@@ -24,22 +35,60 @@ public class PlayerMoveListener implements Listener {
             return;
         }
 
-        Player player = event.getPlayer();
-        PlayerData data = plugin.getGameManager().getPlayerData(player);
-        
-        TerritoryData newTerritory = plugin.getTerritoryManager().getTerritoryAt(event.getTo());
-        int newTerritoryId = newTerritory != null ? newTerritory.getTerritoryId() : 0;
-        
-        if (newTerritoryId != data.getCurrentTerritoryId()) {
-            data.setCurrentTerritoryId(newTerritoryId);
-            data.setLastTerritoryEnterTime(System.currentTimeMillis());
-            
-            if (newTerritory != null) {
-                MessageUtils.sendMessage(player, "&eEntered territory: &f" + newTerritory.getName());
-                if (newTerritory.getOwnerTeamId() != 0) {
-                    MessageUtils.sendMessage(player, "&7Controlled by: " + 
-                        plugin.getTeamManager().getTeam(newTerritory.getOwnerTeamId()).getColoredName());
-                }
+        moved(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler
+    public void onVehicleMove(VehicleMoveEvent event) {
+        if (event.getFrom().getBlockX() == event.getTo().getBlockX() &&
+            event.getFrom().getBlockZ() == event.getTo().getBlockZ()) {
+            return;
+        }
+
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player) {
+                moved((Player) passenger, event.getTo());
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicleExit(VehicleExitEvent event) {
+        if (event.getExited() instanceof Player) {
+            Player player = (Player) event.getExited();
+            updateTerritory(player, player.getLocation());
+        }
+    }
+
+    private void moved(Player player, Location to) {
+        updateTerritory(player, to);
+
+        // The border warning bar follows the player during the apocalypse
+        if (plugin.getGameManager().getGameState().isApocalypse()) {
+            plugin.getHudManager().invalidate(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (event.getTo() == null) return;
+
+        updateTerritory(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        updateTerritory(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    private void updateTerritory(Player player, Location to) {
+        TerritoryData newTerritory = plugin.getTerritoryManager().updatePlayerTerritory(player, to);
+
+        if (newTerritory != null) {
+            MessageUtils.sendMessage(player, "&eEntered territory: &f" + newTerritory.getName());
+            if (newTerritory.getOwnerTeamId() != 0) {
+                MessageUtils.sendMessage(player, "&7Controlled by: " + 
+                    plugin.getTeamManager().getTeam(newTerritory.getOwnerTeamId()).getColoredName());
             }
         }
     }
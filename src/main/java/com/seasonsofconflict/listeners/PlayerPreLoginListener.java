@@ -0,0 +1,40 @@
+package com.seasonsofconflict.listeners;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+
+/**
+ * Preloads player profiles on the async login thread and installs them on the main
+ * thread before PlayerJoinListener runs
+ */
+public class PlayerPreLoginListener implements Listener {
+
+    private final SeasonsOfConflict plugin;
+
+    public PlayerPreLoginListener(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        plugin.getProfileLoader().preload(event.getUniqueId(), event.getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            plugin.getProfileLoader().discard(event.getPlayer().getUniqueId());
+            return;
+        }
+
+        plugin.getProfileLoader().install(event.getPlayer().getUniqueId());
+    }
+}
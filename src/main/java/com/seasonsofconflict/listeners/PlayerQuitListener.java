@@ -18,7 +18,14 @@ public class PlayerQuitListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
 
-        // Just save player data when they quit (combat logging no longer punished)
-        plugin.getGameManager().savePlayerData(player.getUniqueId());
+        // Combat logging is not punished: markOffline queues a save and moves the data to
+        // the evictable offline tier of the player cache
+        plugin.getGameManager().markOffline(player.getUniqueId());
+
+        // Drop per-player HUD state and the cached heat source scan
+        plugin.getSidebarManager().remove(player.getUniqueId());
+        plugin.getHudManager().remove(player.getUniqueId());
+        plugin.getBossBarManager().removeAllBars(player);
+        plugin.getHeatSourceIndex().forget(player.getUniqueId());
     }
 }
@@ -3,6 +3,7 @@ package com.seasonsofconflict.listeners;
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.models.PlayerData;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerRespawnEvent;
 
@@ -24,4 +25,10 @@ public class PlayerRespawnListener implements Listener {
                 .getBeaconLocation(event.getPlayer().getWorld().getName()));
         }
     }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawnComplete(PlayerRespawnEvent event) {
+        // Respawning moves the player without a move or teleport event
+        plugin.getTerritoryManager().updatePlayerTerritory(event.getPlayer(), event.getRespawnLocation());
+    }
 }
@@ -2,6 +2,7 @@ package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.managers.SkillEffectManager;
+import com.seasonsofconflict.models.Skill;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -42,7 +43,7 @@ public class PotionEffectListener implements Listener {
 
         // Poison/Wither Resistance: 90% reduced duration
         if ((type.equals(PotionEffectType.POISON) || type.equals(PotionEffectType.WITHER)) &&
-            effectManager.hasSkillByName(player, "poison_wither_resistance")) {
+            effectManager.hasSkill(player, Skill.POISON_WITHER_RESISTANCE)) {
 
             int reducedDuration = effectManager.getReducedPotionDuration(player, baseDuration);
 
@@ -62,7 +63,7 @@ public class PotionEffectListener implements Listener {
         if ((type.equals(PotionEffectType.SLOW) ||
              type.equals(PotionEffectType.WEAKNESS) ||
              type.equals(PotionEffectType.SLOW_DIGGING)) &&
-            effectManager.hasSkillByName(player, "unstoppable")) {
+            effectManager.hasSkill(player, Skill.UNSTOPPABLE)) {
 
             int reducedDuration = effectManager.getUnstoppableDebuffDuration(player, baseDuration);
 
@@ -93,7 +94,7 @@ public class PotionEffectListener implements Listener {
         // Poison/Wither Resistance: 75% damage reduction
         if ((cause == EntityDamageEvent.DamageCause.POISON ||
              cause == EntityDamageEvent.DamageCause.WITHER) &&
-            effectManager.hasSkillByName(player, "poison_wither_resistance")) {
+            effectManager.hasSkill(player, Skill.POISON_WITHER_RESISTANCE)) {
 
             double damage = event.getDamage();
             double reducedDamage = effectManager.applyPoisonWitherResistance(player, damage);
@@ -2,6 +2,7 @@ package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.managers.SkillEffectManager;
+import com.seasonsofconflict.models.Skill;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -54,7 +55,7 @@ public class SurvivalSkillListener implements Listener {
         EntityDamageEvent.DamageCause cause = event.getCause();
 
         // Damage Absorption: First hit every 30s deals 50% less damage
-        if (effectManager.hasSkillByName(player, "damage_absorption")) {
+        if (effectManager.hasSkill(player, Skill.DAMAGE_ABSORPTION)) {
             long currentTime = System.currentTimeMillis();
             Long lastAbsorption = lastDamageAbsorptionTime.get(player.getUniqueId());
 
@@ -89,7 +90,7 @@ public class SurvivalSkillListener implements Listener {
         }
 
         // Warrior's Resolve: Cannot drop below 1 HP for 5s after fatal damage (3 min cooldown)
-        if (effectManager.hasSkillByName(player, "warriors_resolve")) {
+        if (effectManager.hasSkill(player, Skill.WARRIORS_RESOLVE)) {
             double playerHealth = player.getHealth();
 
             if (playerHealth - damage <= 0) {
@@ -226,7 +227,7 @@ public class SurvivalSkillListener implements Listener {
             double maxHealth = player.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue();
 
             // Second Wind: Instantly heal 5 hearts when below 5 hearts (5 min cooldown)
-            if (currentHealth <= 10.0 && effectManager.hasSkillByName(player, "second_wind")) {
+            if (currentHealth <= 10.0 && effectManager.hasSkill(player, Skill.SECOND_WIND)) {
                 if (plugin.getCooldownManager().tryActivateSkill(player, "second_wind_passive", 300)) {
                     // Heal 5 hearts (10 HP)
                     double newHealth = Math.min(currentHealth + 10.0, maxHealth);
@@ -256,7 +257,7 @@ public class SurvivalSkillListener implements Listener {
             }
 
             // Last Stand: Below 10 hearts → +30% damage & +20% damage resist for 10s (2 min cooldown)
-            if (currentHealth <= 20.0 && effectManager.hasSkillByName(player, "last_stand")) {
+            if (currentHealth <= 20.0 && effectManager.hasSkill(player, Skill.LAST_STAND)) {
                 if (plugin.getCooldownManager().tryActivateSkill(player, "last_stand_passive", 120)) {
                     // Apply potion effects
                     player.addPotionEffect(new org.bukkit.potion.PotionEffect(
@@ -1,7 +1,9 @@
 package com.seasonsofconflict.listeners;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.managers.PlayerGrid;
 import com.seasonsofconflict.managers.SkillEffectManager;
+import com.seasonsofconflict.models.Skill;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
@@ -48,21 +50,14 @@ public class TeamworkSkillListener implements Listener {
         Location victimLoc = victim.getLocation();
         int victimTeam = plugin.getGameManager().getPlayerData(victim).getTeamId();
 
-        for (Player nearbyPlayer : org.bukkit.Bukkit.getOnlinePlayers()) {
+        for (PlayerGrid.Entry nearby : plugin.getPlayerGrid().getPlayersInRadius(victimLoc, 10.0)) {
+            Player nearbyPlayer = nearby.getPlayer();
             if (nearbyPlayer.getUniqueId().equals(victim.getUniqueId())) {
                 continue; // Skip the victim
             }
 
-            // Check if within 10 blocks
-            if (!nearbyPlayer.getWorld().equals(victimLoc.getWorld()) ||
-                nearbyPlayer.getLocation().distance(victimLoc) > 10.0) {
-                continue;
-            }
-
             // Check if same team
-            int nearbyTeam = plugin.getGameManager().getPlayerData(nearbyPlayer).getTeamId();
-
-            if (victimTeam == nearbyTeam && effectManager.hasSkillByName(nearbyPlayer, "guardian_angel")) {
+            if (victimTeam == nearby.getTeamId() && effectManager.hasSkill(nearbyPlayer, Skill.GUARDIAN_ANGEL)) {
                 // Try to activate Guardian Angel (5 min cooldown = 300 seconds)
                 if (plugin.getCooldownManager().tryActivateSkill(nearbyPlayer, "guardian_angel_passive", 300)) {
                     // Teleport to victim
@@ -204,7 +199,7 @@ public class TeamworkSkillListener implements Listener {
             // Check if same team
             int nearbyTeam = plugin.getGameManager().getPlayerData(nearbyPlayer).getTeamId();
 
-            if (deadTeam == nearbyTeam && effectManager.hasSkillByName(nearbyPlayer, "last_stand_protocol")) {
+            if (deadTeam == nearbyTeam && effectManager.hasSkill(nearbyPlayer, Skill.LAST_STAND_PROTOCOL)) {
                 // Apply buffs: +40% damage and +25% damage resistance for 15 seconds
                 nearbyPlayer.addPotionEffect(new PotionEffect(
                     PotionEffectType.INCREASE_DAMAGE,
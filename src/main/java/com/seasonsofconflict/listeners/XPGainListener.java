@@ -30,7 +30,7 @@ public class XPGainListener implements Listener {
         Player player = event.getPlayer();
         Material type = event.getBlock().getType();
 
-        int xpAmount = getGatheringXP(type);
+        int xpAmount = plugin.getSettings().getGatheringXP(type);
         if (xpAmount > 0) {
             awardXP(player, xpAmount, "Mining " + formatMaterialName(type));
         }
@@ -50,12 +50,12 @@ public class XPGainListener implements Listener {
 
         // Player kill
         if (entityType == EntityType.PLAYER) {
-            xpAmount = plugin.getConfig().getInt("skills.xp_sources.player_kill", 200);
+            xpAmount = plugin.getSettings().getPlayerKillXP();
             source = "Player Kill";
         }
         // Mob kill
         else {
-            xpAmount = getMobKillXP(entityType);
+            xpAmount = plugin.getSettings().getMobKillXP(entityType);
             if (xpAmount > 0) {
                 source = "Killing " + formatEntityName(entityType);
             }
@@ -66,63 +66,6 @@ public class XPGainListener implements Listener {
         }
     }
 
-    /**
-     * Get XP amount for gathering resources
-     */
-    private int getGatheringXP(Material type) {
-        return switch (type) {
-            case STONE, COBBLESTONE, DEEPSLATE, COBBLED_DEEPSLATE ->
-                plugin.getConfig().getInt("skills.xp_sources.gathering.stone", 1);
-
-            case COAL_ORE, DEEPSLATE_COAL_ORE ->
-                plugin.getConfig().getInt("skills.xp_sources.gathering.coal", 2);
-
-            case IRON_ORE, DEEPSLATE_IRON_ORE ->
-                plugin.getConfig().getInt("skills.xp_sources.gathering.iron", 3);
-
-            case GOLD_ORE, DEEPSLATE_GOLD_ORE ->
-                plugin.getConfig().getInt("skills.xp_sources.gathering.gold", 5);
-
-            case DIAMOND_ORE, DEEPSLATE_DIAMOND_ORE ->
-                plugin.getConfig().getInt("skills.xp_sources.gathering.diamond", 10);
-
-            case OAK_LOG, BIRCH_LOG, SPRUCE_LOG, JUNGLE_LOG, ACACIA_LOG, DARK_OAK_LOG, MANGROVE_LOG ->
-                plugin.getConfig().getInt("skills.xp_sources.gathering.log", 2);
-
-            case WHEAT, CARROTS, POTATOES, BEETROOTS ->
-                plugin.getConfig().getInt("skills.xp_sources.gathering.wheat", 1);
-
-            default -> 0;
-        };
-    }
-
-    /**
-     * Get XP amount for killing mobs
-     */
-    private int getMobKillXP(EntityType type) {
-        return switch (type) {
-            case ZOMBIE ->
-                plugin.getConfig().getInt("skills.xp_sources.mob_kill.zombie", 10);
-
-            case SKELETON ->
-                plugin.getConfig().getInt("skills.xp_sources.mob_kill.skeleton", 15);
-
-            case CREEPER ->
-                plugin.getConfig().getInt("skills.xp_sources.mob_kill.creeper", 20);
-
-            case SPIDER ->
-                plugin.getConfig().getInt("skills.xp_sources.mob_kill.spider", 12);
-
-            case ENDERMAN ->
-                plugin.getConfig().getInt("skills.xp_sources.mob_kill.enderman", 50);
-
-            case WITHER_SKELETON ->
-                plugin.getConfig().getInt("skills.xp_sources.mob_kill.wither_skeleton", 100);
-
-            default -> 0;
-        };
-    }
-
     /**
      * Award XP to a player
      */
@@ -0,0 +1,269 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.utils.LocationUtils;
+import com.seasonsofconflict.utils.LongHashSet;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs area-break skills (Vein Miner, tree felling) a bounded number of blocks per tick.
+ *
+ * Each skill use is an {@link AreaBreak} that walks outward from the block the player
+ * broke. Every tick the scheduler hands out skills.area_break_blocks_per_tick block
+ * breaks, round-robin across active jobs, so a large tree or several players felling at
+ * once cannot stall the server tick. Drops are merged into stacks and spawned once when
+ * a job finishes.
+ */
+public class BlockOperationScheduler {
+
+    private final SeasonsOfConflict plugin;
+    private final Deque<AreaBreak> jobs;
+
+    // Statistics
+    private long blocksBroken;
+
+    public BlockOperationScheduler(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+        this.jobs = new ArrayDeque<>();
+    }
+
+    /**
+     * Queue an area break; it starts on the next tick
+     */
+    public void submit(AreaBreak job) {
+        jobs.add(job);
+    }
+
+    /**
+     * Spend this tick's block budget on the queued jobs
+     */
+    public void tick() {
+        int budget = plugin.getSettings().getAreaBreakBlocksPerTick();
+        while (budget > 0 && !jobs.isEmpty()) {
+            AreaBreak job = jobs.poll();
+            Player player = Bukkit.getPlayer(job.playerId);
+            if (player == null) {
+                // Player left mid-break: stop, but keep what was already broken
+                job.finish(null);
+                continue;
+            }
+
+            if (job.step(player)) {
+                blocksBroken++;
+            }
+            budget--;
+
+            if (job.isDone()) {
+                job.finish(player);
+            } else {
+                jobs.add(job);
+            }
+        }
+    }
+
+    /**
+     * Run every queued job to completion (on disable)
+     */
+    public void finishAll() {
+        while (!jobs.isEmpty()) {
+            AreaBreak job = jobs.poll();
+            Player player = Bukkit.getPlayer(job.playerId);
+            while (player != null && !job.isDone()) {
+                if (job.step(player)) {
+                    blocksBroken++;
+                }
+            }
+            job.finish(player);
+        }
+    }
+
+    public int getActiveJobCount() {
+        return jobs.size();
+    }
+
+    /**
+     * Total blocks broken by area breaks since startup
+     */
+    public long getBlocksBroken() {
+        return blocksBroken;
+    }
+
+    /**
+     * One area-break skill use: a breadth-first walk over matching blocks connected to the
+     * block the player broke. Positions are packed longs; the origin is only expanded, since
+     * the player's own break removes it.
+     */
+    public abstract static class AreaBreak {
+
+        private static final int[][] FACE_OFFSETS = {
+            {1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}
+        };
+        private static final int[][] ALL_OFFSETS = buildAllOffsets();
+
+        private final UUID playerId;
+        private final ItemStack tool;
+        private final World world;
+        private final Location dropLocation;
+        private final long origin;
+        private final int[][] offsets;
+        private final int maxBlocks;
+        private final LongHashSet visited;
+        private final long[] queue;
+        private final List<ItemStack> drops;
+        private int head;
+        private int tail;
+        private int broken;
+
+        /**
+         * @param origin The block the player broke
+         * @param maxBlocks Most additional blocks to break
+         * @param diagonals Also follow edge and corner neighbours (branches)
+         */
+        protected AreaBreak(Player player, Block origin, int maxBlocks, boolean diagonals) {
+            this.playerId = player.getUniqueId();
+            // Later ticks use the tool the break started with, not whatever is held then
+            this.tool = player.getInventory().getItemInMainHand().clone();
+            this.world = origin.getWorld();
+            this.dropLocation = origin.getLocation().add(0.5, 0.5, 0.5);
+            this.origin = LocationUtils.packBlock(origin);
+            this.offsets = diagonals ? ALL_OFFSETS : FACE_OFFSETS;
+            this.maxBlocks = maxBlocks;
+            this.visited = new LongHashSet(maxBlocks * offsets.length);
+            this.queue = new long[maxBlocks + 1];
+            this.drops = new ArrayList<>();
+
+            visited.add(this.origin);
+            queue[tail++] = this.origin;
+        }
+
+        /**
+         * Whether this block should be broken by the walk
+         */
+        protected abstract boolean matches(Block block);
+
+        /**
+         * Collect the drops for a block about to be broken, via {@link #addDrop}
+         */
+        protected abstract void collectDrops(Player player, Block block);
+
+        /**
+         * Called after a block is broken (effects)
+         * @param index How many blocks were broken before this one
+         */
+        protected void onBreak(Block block, Material brokenType, int index) {
+        }
+
+        /**
+         * Called once when the walk ends, after the drops are spawned
+         * @param player Null if the player went offline
+         */
+        protected abstract void onComplete(Player player, int brokenCount);
+
+        /**
+         * Copy of the tool the player held when the break started
+         */
+        protected final ItemStack getTool() {
+            return tool;
+        }
+
+        /**
+         * Add a drop, merging it into a similar stack already collected
+         */
+        protected final void addDrop(ItemStack drop) {
+            for (ItemStack stack : drops) {
+                if (stack.isSimilar(drop)) {
+                    stack.setAmount(stack.getAmount() + drop.getAmount());
+                    return;
+                }
+            }
+            drops.add(drop.clone());
+        }
+
+        private boolean isDone() {
+            return head == tail;
+        }
+
+        /**
+         * Take the next queued position: break it (unless it is the origin or no longer
+         * matches) and queue its matching neighbours
+         * @return true if a block was broken
+         */
+        private boolean step(Player player) {
+            long position = queue[head++];
+            int x = LocationUtils.unpackX(position);
+            int y = LocationUtils.unpackY(position);
+            int z = LocationUtils.unpackZ(position);
+
+            boolean brokeBlock = false;
+            if (position != origin) {
+                Block block = world.getBlockAt(x, y, z);
+                // The world may have changed since the block was queued
+                if (!matches(block)) return false;
+
+                Material type = block.getType();
+                collectDrops(player, block);
+                block.setType(Material.AIR);
+                onBreak(block, type, broken);
+                broken++;
+                brokeBlock = true;
+            }
+
+            for (int[] offset : offsets) {
+                if (tail - 1 >= maxBlocks) break;
+
+                int nx = x + offset[0];
+                int ny = y + offset[1];
+                int nz = z + offset[2];
+                long neighbour = LocationUtils.packBlock(nx, ny, nz);
+                if (visited.contains(neighbour)) continue;
+
+                visited.add(neighbour);
+                if (matches(world.getBlockAt(nx, ny, nz))) {
+                    queue[tail++] = neighbour;
+                }
+            }
+            return brokeBlock;
+        }
+
+        private void finish(Player player) {
+            for (ItemStack stack : drops) {
+                int remaining = stack.getAmount();
+                int maxStack = Math.max(1, stack.getMaxStackSize());
+                while (remaining > 0) {
+                    ItemStack part = stack.clone();
+                    part.setAmount(Math.min(remaining, maxStack));
+                    world.dropItemNaturally(dropLocation, part);
+                    remaining -= part.getAmount();
+                }
+            }
+            drops.clear();
+            onComplete(player, broken);
+        }
+
+        private static int[][] buildAllOffsets() {
+            int[][] offsets = new int[26][];
+            int i = 0;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if (dx == 0 && dy == 0 && dz == 0) continue;
+                        offsets[i++] = new int[]{dx, dy, dz};
+                    }
+                }
+            }
+            return offsets;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Picks random blocks around players in the game world without loading chunks.
+ *
+ * Loaded chunks are tracked from chunk load/unload events. Samples that land in a chunk
+ * that is not loaded are skipped instead of forcing a synchronous load (or generation)
+ * at the edge of view distance. Areas around players are merged before sampling, so a
+ * crowd standing in one base is sampled like a single player rather than once per player.
+ */
+public class BlockSampler {
+
+    private final SeasonsOfConflict plugin;
+    private final Set<Long> loadedChunks;
+    private final Random random;
+
+    // Statistics
+    private long samplesTaken;
+    private long chunkLoadsAvoided;
+    private long overlapSamplesSkipped;
+
+    public BlockSampler(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+        this.loadedChunks = new HashSet<>();
+        this.random = new Random();
+    }
+
+    private boolean isGameWorld(World world) {
+        return world != null && world.getName().equals(plugin.getSettings().getWorldName());
+    }
+
+    /**
+     * Track every chunk of the game world that is already loaded (on enable)
+     */
+    public void trackLoadedChunks() {
+        World world = Bukkit.getWorld(plugin.getSettings().getWorldName());
+        if (world == null) return;
+
+        for (Chunk chunk : world.getLoadedChunks()) {
+            loadedChunks.add(chunkKey(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    public void chunkLoaded(Chunk chunk) {
+        if (isGameWorld(chunk.getWorld())) {
+            loadedChunks.add(chunkKey(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    public void chunkUnloaded(Chunk chunk) {
+        if (isGameWorld(chunk.getWorld())) {
+            loadedChunks.remove(chunkKey(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    /**
+     * Check if the chunk holding this block position is loaded, counting a skipped load if not
+     */
+    public boolean isLoaded(int blockX, int blockZ) {
+        if (loadedChunks.contains(chunkKey(blockX >> 4, blockZ >> 4))) {
+            return true;
+        }
+        chunkLoadsAvoided++;
+        return false;
+    }
+
+    /**
+     * Sample random blocks around a set of game world locations.
+     *
+     * Each location covers the chunks within radius of it; overlapping coverage is merged
+     * and the sample count scaled to the merged area, so samplesPerCenter blocks are drawn
+     * for every distinct area's worth of chunks.
+     *
+     * @param radius Horizontal radius around each location
+     * @param yRange Blocks above and below the location's Y to sample
+     * @param samplesPerCenter Samples for a location whose area overlaps no other
+     * @param action Called for each sampled block (always in a loaded chunk)
+     */
+    public void sampleAround(Collection<Location> centers, int radius, int yRange,
+                             int samplesPerCenter, Consumer<Block> action) {
+        World world = Bukkit.getWorld(plugin.getSettings().getWorldName());
+        if (world == null || centers.isEmpty()) return;
+
+        // Merge coverage; a chunk claimed by several locations keeps the first one's Y
+        Map<Long, Integer> centerYByChunk = new HashMap<>();
+        List<Long> chunks = new ArrayList<>();
+        int coveredChunks = 0;
+        for (Location center : centers) {
+            int minCx = (center.getBlockX() - radius) >> 4;
+            int maxCx = (center.getBlockX() + radius) >> 4;
+            int minCz = (center.getBlockZ() - radius) >> 4;
+            int maxCz = (center.getBlockZ() + radius) >> 4;
+            coveredChunks += (maxCx - minCx + 1) * (maxCz - minCz + 1);
+
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    long key = chunkKey(cx, cz);
+                    if (centerYByChunk.putIfAbsent(key, center.getBlockY()) == null) {
+                        chunks.add(key);
+                    }
+                }
+            }
+        }
+
+        // Scale samples to the merged area (equal to samplesPerCenter * centers without overlap)
+        double expected = (double) samplesPerCenter * centers.size() * chunks.size() / coveredChunks;
+        int samples = (int) expected;
+        if (random.nextDouble() < expected - samples) {
+            samples++;
+        }
+        overlapSamplesSkipped += Math.max(0, samplesPerCenter * centers.size() - samples);
+
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight() - 1;
+        for (int i = 0; i < samples; i++) {
+            long key = chunks.get(random.nextInt(chunks.size()));
+            if (!loadedChunks.contains(key)) {
+                chunkLoadsAvoided++;
+                continue;
+            }
+
+            int x = ((int) (key >> 32) << 4) + random.nextInt(16);
+            int z = ((int) key << 4) + random.nextInt(16);
+            int y = centerYByChunk.get(key) + random.nextInt(yRange * 2) - yRange;
+            y = Math.max(minY, Math.min(maxY, y));
+
+            samplesTaken++;
+            action.accept(world.getBlockAt(x, y, z));
+        }
+    }
+
+    public int getLoadedChunkCount() {
+        return loadedChunks.size();
+    }
+
+    public long getSamplesTaken() {
+        return samplesTaken;
+    }
+
+    /**
+     * Samples skipped because their chunk was not loaded
+     */
+    public long getChunkLoadsAvoided() {
+        return chunkLoadsAvoided;
+    }
+
+    /**
+     * Samples not drawn because players' areas overlapped
+     */
+    public long getOverlapSamplesSkipped() {
+        return overlapSamplesSkipped;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -1,10 +1,12 @@
 package com.seasonsofconflict.managers;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.models.ConfigSnapshot;
 import com.seasonsofconflict.models.GameState;
 import com.seasonsofconflict.models.Season;
 import com.seasonsofconflict.models.TerritoryData;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
@@ -13,175 +15,198 @@ import org.bukkit.entity.Player;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * Manages boss bars for capture progress, season timers, and apocalypse warnings
+ * Manages boss bars for capture progress, season timers, and apocalypse warnings.
+ *
+ * Bars are shared: one per territory being captured, one season timer, and one border
+ * warning per danger band. Players are added to or removed from a bar as they enter or
+ * leave its range, so the number of bars and title updates depends on territories,
+ * not on players.
  */
 public class BossBarManager {
 
+    // Border warning bands: shown within 200 blocks, then 100 and 50
+    private static final int[] BORDER_BANDS = {50, 100, 200};
+    private static final BarColor[] BORDER_COLORS = {BarColor.RED, BarColor.YELLOW, BarColor.BLUE};
+
     private final SeasonsOfConflict plugin;
-    private final Map<UUID, BossBar> captureBars;
-    private final Map<UUID, BossBar> seasonBars;
-    private final Map<UUID, BossBar> borderBars;
+    private final Map<Integer, CaptureBar> captureBars;
+    private final BossBar[] borderBars;
+    private final Map<UUID, Integer> borderBandByPlayer;
+    private BossBar seasonBar;
+    private long seasonDaysShown;
 
     public BossBarManager(SeasonsOfConflict plugin) {
         this.plugin = plugin;
         this.captureBars = new HashMap<>();
-        this.seasonBars = new HashMap<>();
-        this.borderBars = new HashMap<>();
+        this.borderBars = new BossBar[BORDER_BANDS.length];
+        this.borderBandByPlayer = new HashMap<>();
+        this.seasonDaysShown = -1;
     }
 
     /**
-     * Update all boss bars for a player
+     * Update the per-player parts of the boss bars (season bar and border band membership)
      */
     public void updateBossBarForPlayer(Player player) {
-        updateCaptureBossBar(player);
-        updateSeasonBossBar(player);
-        updateBorderBossBar(player);
+        if (seasonBar != null && seasonBar.isVisible()) {
+            seasonBar.addPlayer(player);
+        }
+        updateBorderBand(player);
     }
 
     /**
-     * Update capture progress boss bar
-     * Shows when player is near an enemy beacon being captured
+     * Update the shared capture bars: one per territory with capture progress, shown to
+     * the players inside its capture radius. Called every capture tick.
      */
-    private void updateCaptureBossBar(Player player) {
-        TerritoryData nearbyTerritory = getNearbyCapturingTerritory(player);
-
-        if (nearbyTerritory != null && nearbyTerritory.getCaptureProgress() > 0) {
-            // Show capture progress
-            BossBar bar = captureBars.get(player.getUniqueId());
-            if (bar == null) {
-                bar = Bukkit.createBossBar(
-                    "Capturing Territory...",
-                    BarColor.YELLOW,
-                    BarStyle.SEGMENTED_10
-                );
-                bar.addPlayer(player);
-                captureBars.put(player.getUniqueId(), bar);
+    public void updateCaptureBars() {
+        ConfigSnapshot settings = plugin.getSettings();
+        Set<Integer> active = new HashSet<>();
+
+        for (TerritoryData territory : plugin.getTerritoryManager().getAllTerritories()) {
+            if (territory.getCaptureProgress() <= 0) continue;
+            active.add(territory.getTerritoryId());
+
+            CaptureBar capture = captureBars.computeIfAbsent(territory.getTerritoryId(), id -> new CaptureBar(
+                Bukkit.createBossBar("Capturing Territory...", BarColor.YELLOW, BarStyle.SEGMENTED_10)));
+
+            // Only touch the bar when the shown percentage changes
+            double progress = territory.getCaptureProgress() / (double) settings.getCaptureTimeSeconds();
+            progress = Math.min(1.0, Math.max(0.0, progress));
+            int percent = (int) (progress * 100);
+            if (percent != capture.percent) {
+                capture.percent = percent;
+                capture.bar.setProgress(progress);
+                capture.bar.setTitle("§eCapturing §6" + territory.getName() + " §7(" + percent + "%)");
+
+                // Change color based on progress
+                if (progress < 0.33) {
+                    capture.bar.setColor(BarColor.RED);
+                } else if (progress < 0.66) {
+                    capture.bar.setColor(BarColor.YELLOW);
+                } else {
+                    capture.bar.setColor(BarColor.GREEN);
+                }
             }
 
-            double progress = nearbyTerritory.getCaptureProgress() / 300.0; // 300 seconds to capture
-            bar.setProgress(Math.min(1.0, Math.max(0.0, progress)));
-            bar.setTitle("§eCapturing §6" + nearbyTerritory.getName() + " §7(" +
-                         (int)(progress * 100) + "%)");
-
-            // Change color based on progress
-            if (progress < 0.33) {
-                bar.setColor(BarColor.RED);
-            } else if (progress < 0.66) {
-                bar.setColor(BarColor.YELLOW);
-            } else {
-                bar.setColor(BarColor.GREEN);
+            // Viewers are the players inside the capture radius
+            Location beacon = territory.getBeaconLocation(settings.getWorldName());
+            Set<Player> inRange = new HashSet<>();
+            for (PlayerGrid.Entry entry : plugin.getPlayerGrid().getPlayersInRadius(beacon, settings.getCaptureRadius())) {
+                inRange.add(entry.getPlayer());
             }
-        } else {
-            // Hide capture bar
-            removeCaptureBar(player);
+            syncViewers(capture.bar, inRange);
         }
-    }
 
-    /**
-     * Update season timer boss bar
-     */
-    private void updateSeasonBossBar(Player player) {
-        GameState gameState = plugin.getGameManager().getGameState();
-        LocalDate seasonStart = gameState.getSeasonStartDate();
-        LocalDate now = LocalDate.now();
-
-        long daysPassed = ChronoUnit.DAYS.between(seasonStart, now);
-        long daysRemaining = 30 - daysPassed;
-
-        if (daysRemaining <= 7 && daysRemaining > 0) {
-            // Show season timer when less than 7 days remain
-            BossBar bar = seasonBars.get(player.getUniqueId());
-            if (bar == null) {
-                bar = Bukkit.createBossBar(
-                    "Season Timer",
-                    BarColor.BLUE,
-                    BarStyle.SOLID
-                );
-                bar.addPlayer(player);
-                seasonBars.put(player.getUniqueId(), bar);
+        // Captures that finished or decayed away
+        Iterator<Map.Entry<Integer, CaptureBar>> iterator = captureBars.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, CaptureBar> entry = iterator.next();
+            if (!active.contains(entry.getKey())) {
+                entry.getValue().bar.removeAll();
+                iterator.remove();
             }
+        }
+    }
 
-            double progress = daysRemaining / 30.0;
-            bar.setProgress(Math.min(1.0, Math.max(0.0, progress)));
-
-            Season currentSeason = gameState.getCurrentSeason();
-            Season nextSeason = currentSeason.getNext();
-            bar.setTitle("§b" + currentSeason.name() + " §7→ §e" + nextSeason.name() +
-                         " §7in §f" + daysRemaining + " day" + (daysRemaining == 1 ? "" : "s"));
-
-            // Color based on urgency
-            if (daysRemaining <= 2) {
-                bar.setColor(BarColor.RED);
-            } else if (daysRemaining <= 5) {
-                bar.setColor(BarColor.YELLOW);
-            } else {
-                bar.setColor(BarColor.BLUE);
+    private static void syncViewers(BossBar bar, Set<Player> viewers) {
+        for (Player player : bar.getPlayers()) {
+            if (!viewers.contains(player)) {
+                bar.removePlayer(player);
             }
-        } else {
-            // Hide season bar
-            removeSeasonBar(player);
+        }
+        for (Player player : viewers) {
+            bar.addPlayer(player);
         }
     }
 
     /**
-     * Update world border warning boss bar
+     * Update the shared season timer bar, shown to everyone when less than 7 days remain
      */
-    private void updateBorderBossBar(Player player) {
-        if (!plugin.getGameManager().getGameState().isApocalypse()) {
-            removeBorderBar(player);
+    public void updateSeasonBar() {
+        GameState gameState = plugin.getGameManager().getGameState();
+        long daysPassed = ChronoUnit.DAYS.between(gameState.getSeasonStartDate(), LocalDate.now());
+        long daysRemaining = 30 - daysPassed;
+
+        if (daysRemaining > 7 || daysRemaining <= 0) {
+            if (seasonBar != null) {
+                seasonBar.removeAll();
+                seasonBar.setVisible(false);
+            }
+            seasonDaysShown = -1;
             return;
         }
 
-        double distanceToBorder = getDistanceToBorder(player);
+        if (seasonBar == null) {
+            seasonBar = Bukkit.createBossBar("Season Timer", BarColor.BLUE, BarStyle.SOLID);
+        }
+        seasonBar.setVisible(true);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            seasonBar.addPlayer(player);
+        }
 
-        if (distanceToBorder < 200) {
-            // Show border warning when within 200 blocks
-            BossBar bar = borderBars.get(player.getUniqueId());
-            if (bar == null) {
-                bar = Bukkit.createBossBar(
-                    "World Border Warning",
-                    BarColor.RED,
-                    BarStyle.SOLID
-                );
-                bar.addPlayer(player);
-                borderBars.put(player.getUniqueId(), bar);
-            }
+        if (daysRemaining == seasonDaysShown) return;
+        seasonDaysShown = daysRemaining;
 
-            double progress = distanceToBorder / 200.0;
-            bar.setProgress(Math.min(1.0, Math.max(0.0, progress)));
-            bar.setTitle("§c⚠ World Border: §f" + (int)distanceToBorder + " blocks");
-
-            // Color based on danger
-            if (distanceToBorder < 50) {
-                bar.setColor(BarColor.RED);
-            } else if (distanceToBorder < 100) {
-                bar.setColor(BarColor.YELLOW);
-            } else {
-                bar.setColor(BarColor.BLUE);
-            }
+        double progress = daysRemaining / 30.0;
+        seasonBar.setProgress(Math.min(1.0, Math.max(0.0, progress)));
+
+        Season currentSeason = gameState.getCurrentSeason();
+        Season nextSeason = currentSeason.getNext();
+        seasonBar.setTitle("§b" + currentSeason.name() + " §7→ §e" + nextSeason.name() +
+                           " §7in §f" + daysRemaining + " day" + (daysRemaining == 1 ? "" : "s"));
+
+        // Color based on urgency
+        if (daysRemaining <= 2) {
+            seasonBar.setColor(BarColor.RED);
+        } else if (daysRemaining <= 5) {
+            seasonBar.setColor(BarColor.YELLOW);
         } else {
-            removeBorderBar(player);
+            seasonBar.setColor(BarColor.BLUE);
         }
     }
 
     /**
-     * Get nearby territory that is being captured
+     * Move a player to the border warning bar for their distance band (apocalypse only)
      */
-    private TerritoryData getNearbyCapturingTerritory(Player player) {
-        for (int territoryId = 1; territoryId <= 5; territoryId++) {
-            TerritoryData territory = plugin.getTerritoryManager().getTerritory(territoryId);
-            if (territory == null) continue;
-
-            if (territory.getCaptureProgress() > 0 &&
-                plugin.getTerritoryManager().isInCaptureRadius(player, territory)) {
-                return territory;
+    private void updateBorderBand(Player player) {
+        int band = -1;
+        if (plugin.getGameManager().getGameState().isApocalypse()) {
+            double distanceToBorder = getDistanceToBorder(player);
+            for (int i = 0; i < BORDER_BANDS.length; i++) {
+                if (distanceToBorder < BORDER_BANDS[i]) {
+                    band = i;
+                    break;
+                }
             }
         }
-        return null;
+
+        Integer current = borderBandByPlayer.get(player.getUniqueId());
+        if (current != null && current == band) return;
+
+        if (current != null) {
+            borderBars[current].removePlayer(player);
+        }
+        if (band < 0) {
+            borderBandByPlayer.remove(player.getUniqueId());
+            return;
+        }
+
+        if (borderBars[band] == null) {
+            borderBars[band] = Bukkit.createBossBar(
+                "§c⚠ World Border: §fless than " + BORDER_BANDS[band] + " blocks",
+                BORDER_COLORS[band],
+                BarStyle.SOLID
+            );
+            borderBars[band].setProgress(BORDER_BANDS[band] / (double) BORDER_BANDS[BORDER_BANDS.length - 1]);
+        }
+        borderBars[band].addPlayer(player);
+        borderBandByPlayer.put(player.getUniqueId(), band);
     }
 
     /**
@@ -199,32 +224,18 @@ public class BossBarManager {
     }
 
     /**
-     * Remove all boss bars for a player
+     * Remove a player from all boss bars (on quit)
      */
     public void removeAllBars(Player player) {
-        removeCaptureBar(player);
-        removeSeasonBar(player);
-        removeBorderBar(player);
-    }
-
-    private void removeCaptureBar(Player player) {
-        BossBar bar = captureBars.remove(player.getUniqueId());
-        if (bar != null) {
-            bar.removeAll();
+        for (CaptureBar capture : captureBars.values()) {
+            capture.bar.removePlayer(player);
         }
-    }
-
-    private void removeSeasonBar(Player player) {
-        BossBar bar = seasonBars.remove(player.getUniqueId());
-        if (bar != null) {
-            bar.removeAll();
+        if (seasonBar != null) {
+            seasonBar.removePlayer(player);
         }
-    }
-
-    private void removeBorderBar(Player player) {
-        BossBar bar = borderBars.remove(player.getUniqueId());
-        if (bar != null) {
-            bar.removeAll();
+        Integer band = borderBandByPlayer.remove(player.getUniqueId());
+        if (band != null) {
+            borderBars[band].removePlayer(player);
         }
     }
 
@@ -232,18 +243,33 @@ public class BossBarManager {
      * Clean up all boss bars
      */
     public void cleanup() {
-        for (BossBar bar : captureBars.values()) {
-            bar.removeAll();
+        for (CaptureBar capture : captureBars.values()) {
+            capture.bar.removeAll();
         }
-        for (BossBar bar : seasonBars.values()) {
-            bar.removeAll();
+        if (seasonBar != null) {
+            seasonBar.removeAll();
         }
-        for (BossBar bar : borderBars.values()) {
-            bar.removeAll();
+        for (BossBar bar : borderBars) {
+            if (bar != null) {
+                bar.removeAll();
+            }
         }
 
         captureBars.clear();
-        seasonBars.clear();
-        borderBars.clear();
+        borderBandByPlayer.clear();
+        seasonBar = null;
+        seasonDaysShown = -1;
+    }
+
+    /**
+     * A territory's shared capture bar and the percentage it currently shows
+     */
+    private static class CaptureBar {
+        private final BossBar bar;
+        private int percent = -1;
+
+        private CaptureBar(BossBar bar) {
+            this.bar = bar;
+        }
     }
 }
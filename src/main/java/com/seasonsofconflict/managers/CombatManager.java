@@ -178,6 +178,7 @@ public class CombatManager {
         // Check team elimination
         if (team != null) {
             plugin.getTeamManager().checkTeamElimination(team.getTeamId());
+            plugin.getHudManager().invalidateTeam(team.getTeamId());
         }
 
         plugin.getLogger().info(player.getName() + " combat logged and died");
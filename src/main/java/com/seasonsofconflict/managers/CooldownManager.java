@@ -1,10 +1,10 @@
 package com.seasonsofconflict.managers;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.data.ConnectionPool;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.entity.Player;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -124,88 +124,74 @@ public class CooldownManager {
      * Load all active cooldowns for a player from database
      */
     public void loadCooldowns(UUID playerUUID) {
-        String query = "SELECT skill_name, cooldown_end FROM skill_cooldowns WHERE player_uuid = ? AND cooldown_end > ?";
-
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+        // Pooled read-only connection - safe off the main thread
+        try (ConnectionPool.PooledReader reader = plugin.getDataManager().borrowReader()) {
+            installCooldowns(playerUUID, loadCooldowns(playerUUID, reader));
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to load cooldowns for player " + playerUUID + ": " + e.getMessage());
+        }
+    }
 
-            stmt.setString(1, playerUUID.toString());
-            stmt.setLong(2, System.currentTimeMillis());
+    /**
+     * Read active cooldowns using an already borrowed reader (SkillName -> ExpiryTimestamp)
+     */
+    public Map<String, Long> loadCooldowns(UUID playerUUID, ConnectionPool.PooledReader reader) throws SQLException {
+        String query = "SELECT skill_name, cooldown_end FROM skill_cooldowns WHERE player_uuid = ? AND cooldown_end > ?";
+        // Cooldown writes are keyed per skill; push this player's before reading back
+        plugin.getDataManager().getWriteQueue().flushIfPendingPrefix(cooldownKey(playerUUID));
 
-            ResultSet rs = stmt.executeQuery();
-            Map<String, Long> playerCooldowns = new ConcurrentHashMap<>();
+        PreparedStatement stmt = reader.prepare(query);
+        stmt.setString(1, playerUUID.toString());
+        stmt.setLong(2, System.currentTimeMillis());
 
+        Map<String, Long> playerCooldowns = new ConcurrentHashMap<>();
+        try (ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
                 String skillName = rs.getString("skill_name");
                 long expiryTime = rs.getLong("cooldown_end");
                 playerCooldowns.put(skillName, expiryTime);
             }
-
-            if (!playerCooldowns.isEmpty()) {
-                cooldowns.put(playerUUID, playerCooldowns);
-            }
-
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to load cooldowns for player " + playerUUID + ": " + e.getMessage());
         }
+        return playerCooldowns;
+    }
+
+    /**
+     * Install cooldowns that were loaded from the database.
+     * Ignored if the player already has cooldowns in memory.
+     */
+    public void installCooldowns(UUID playerUUID, Map<String, Long> playerCooldowns) {
+        if (playerCooldowns.isEmpty()) return;
+        cooldowns.putIfAbsent(playerUUID, playerCooldowns);
     }
 
     /**
-     * Save a cooldown to database
+     * Queue a cooldown write
      */
     private void saveCooldownToDatabase(UUID playerUUID, String skillName, long expiryTime) {
         String query = "INSERT OR REPLACE INTO skill_cooldowns (player_uuid, skill_name, cooldown_end) VALUES (?, ?, ?)";
 
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, playerUUID.toString());
-            stmt.setString(2, skillName);
-            stmt.setLong(3, expiryTime);
-            stmt.executeUpdate();
-
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save cooldown: " + e.getMessage());
-        }
+        plugin.getDataManager().getWriteQueue().enqueue(cooldownKey(playerUUID) + ":" + skillName, query,
+            playerUUID.toString(), skillName, expiryTime);
     }
 
     /**
-     * Clear all cooldowns from database for a player
+     * Queue removal of all cooldowns for a player
      */
     private void clearCooldownsFromDatabase(UUID playerUUID) {
         String query = "DELETE FROM skill_cooldowns WHERE player_uuid = ?";
 
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, playerUUID.toString());
-            stmt.executeUpdate();
-
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to clear cooldowns: " + e.getMessage());
-        }
+        plugin.getDataManager().getWriteQueue().enqueue(cooldownKey(playerUUID), query,
+            playerUUID.toString());
     }
 
     /**
-     * Remove a specific cooldown from database
+     * Queue removal of a specific cooldown
      */
     private void removeCooldownFromDatabase(UUID playerUUID, String skillName) {
         String query = "DELETE FROM skill_cooldowns WHERE player_uuid = ? AND skill_name = ?";
 
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, playerUUID.toString());
-            stmt.setString(2, skillName);
-            stmt.executeUpdate();
-
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to remove cooldown: " + e.getMessage());
-        }
+        plugin.getDataManager().getWriteQueue().enqueue(cooldownKey(playerUUID) + ":" + skillName, query,
+            playerUUID.toString(), skillName);
     }
 
     /**
@@ -220,16 +206,11 @@ public class CooldownManager {
 
         // Clean database
         String query = "DELETE FROM skill_cooldowns WHERE cooldown_end <= ?";
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setLong(1, currentTime);
-            stmt.executeUpdate();
+        plugin.getDataManager().getWriteQueue().enqueue("skill_cooldowns:expired", query, currentTime);
+    }
 
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to cleanup cooldowns: " + e.getMessage());
-        }
+    private static String cooldownKey(UUID playerUUID) {
+        return "skill_cooldowns:" + playerUUID;
     }
 
     /**
@@ -4,13 +4,18 @@ import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.models.GameState;
 import com.seasonsofconflict.models.PlayerData;
 import com.seasonsofconflict.models.TeamData;
+import com.seasonsofconflict.tasks.DailyResetJob;
 import com.seasonsofconflict.utils.MessageUtils;
 import com.seasonsofconflict.utils.TitleUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -18,11 +23,28 @@ public class GameManager {
 
     private final SeasonsOfConflict plugin;
     private GameState gameState;
-    private final Map<UUID, PlayerData> playerDataMap;
+
+    // Online players are pinned; offline entries are kept in access order and evicted
+    // by size or idle time, leaving only a roster summary behind
+    private final Map<UUID, PlayerData> onlinePlayers;
+    private final LinkedHashMap<UUID, PlayerData> offlinePlayers;
+    private final Map<UUID, Long> offlineLastAccess;
+    private final Map<UUID, RosterEntry> evictedRoster;
+
+    // Most recent daily reset (null until the first one)
+    private DailyResetJob dailyResetJob;
+
+    // Cache statistics
+    private long cacheHits;
+    private long cacheMisses;
+    private long cacheEvictions;
 
     public GameManager(SeasonsOfConflict plugin) {
         this.plugin = plugin;
-        this.playerDataMap = new HashMap<>();
+        this.onlinePlayers = new HashMap<>();
+        this.offlinePlayers = new LinkedHashMap<>(16, 0.75f, true);
+        this.offlineLastAccess = new HashMap<>();
+        this.evictedRoster = new HashMap<>();
     }
 
     public void loadGameState() {
@@ -37,6 +59,8 @@ public class GameManager {
     public void saveGameState() {
         if (gameState != null) {
             plugin.getDataManager().saveGameState(gameState);
+            // Season, cycle and apocalypse state are shown to everyone
+            plugin.getHudManager().invalidateAll();
         }
     }
 
@@ -46,36 +70,199 @@ public class GameManager {
 
     // Player data management
     public PlayerData getPlayerData(UUID uuid) {
-        return playerDataMap.computeIfAbsent(uuid, k -> {
-            PlayerData data = plugin.getDataManager().loadPlayer(uuid);
-            if (data == null) {
-                Player player = Bukkit.getPlayer(uuid);
-                data = new PlayerData(uuid, player != null ? player.getName() : "Unknown");
+        PlayerData data = onlinePlayers.get(uuid);
+        if (data == null) {
+            data = offlinePlayers.get(uuid);
+            if (data != null) {
+                offlineLastAccess.put(uuid, System.currentTimeMillis());
             }
+        }
+        if (data != null) {
+            cacheHits++;
             return data;
-        });
+        }
+
+        cacheMisses++;
+        data = plugin.getDataManager().loadPlayer(uuid);
+        Player player = Bukkit.getPlayer(uuid);
+        if (data == null) {
+            data = new PlayerData(uuid, player != null ? player.getName() : "Unknown");
+        }
+
+        if (player != null) {
+            onlinePlayers.put(uuid, data);
+        } else {
+            putOffline(uuid, data);
+        }
+        evictedRoster.remove(uuid);
+        return data;
+    }
+
+    /**
+     * Install player data that was preloaded off the main thread.
+     * Ignored if the player is already cached, or was evicted after the preload started
+     * (the preload may predate the write-back); a missing row creates a fresh record.
+     */
+    public void installPlayerData(UUID uuid, String name, PlayerData data, long loadedAt) {
+        if (onlinePlayers.containsKey(uuid) || offlinePlayers.containsKey(uuid)) return;
+
+        RosterEntry evicted = evictedRoster.get(uuid);
+        if (evicted != null && evicted.evictedAt >= loadedAt) return;
+
+        if (data == null) {
+            data = new PlayerData(uuid, name);
+        }
+        onlinePlayers.put(uuid, data);
+        evictedRoster.remove(uuid);
     }
 
     public PlayerData getPlayerData(Player player) {
         return getPlayerData(player.getUniqueId());
     }
 
+    /**
+     * Pin a joining player's data in the online tier
+     */
+    public void markOnline(UUID uuid) {
+        PlayerData data = offlinePlayers.remove(uuid);
+        offlineLastAccess.remove(uuid);
+        if (data != null) {
+            onlinePlayers.put(uuid, data);
+        }
+    }
+
+    /**
+     * Save a leaving player's data and move it to the evictable offline tier
+     */
+    public void markOffline(UUID uuid) {
+        savePlayerData(uuid);
+        PlayerData data = onlinePlayers.remove(uuid);
+        if (data != null) {
+            putOffline(uuid, data);
+        }
+    }
+
     public void savePlayerData(UUID uuid) {
-        PlayerData data = playerDataMap.get(uuid);
+        PlayerData data = getCachedPlayerData(uuid);
         if (data != null) {
             plugin.getDataManager().savePlayer(data);
         }
     }
 
     public void saveAllPlayers() {
-        for (PlayerData data : playerDataMap.values()) {
-            plugin.getDataManager().savePlayer(data);
-        }
+        List<PlayerData> all = new ArrayList<>(onlinePlayers.size() + offlinePlayers.size());
+        all.addAll(onlinePlayers.values());
+        all.addAll(offlinePlayers.values());
+        plugin.getDataManager().savePlayers(all);
     }
 
     public void removePlayerData(UUID uuid) {
         savePlayerData(uuid);
-        playerDataMap.remove(uuid);
+        onlinePlayers.remove(uuid);
+        offlinePlayers.remove(uuid);
+        offlineLastAccess.remove(uuid);
+    }
+
+    /**
+     * Get cached data without loading it (null if not cached)
+     */
+    public PlayerData getCachedPlayerData(UUID uuid) {
+        PlayerData data = onlinePlayers.get(uuid);
+        return data != null ? data : offlinePlayers.get(uuid);
+    }
+
+    private void putOffline(UUID uuid, PlayerData data) {
+        offlinePlayers.put(uuid, data);
+        offlineLastAccess.put(uuid, System.currentTimeMillis());
+
+        int maxOffline = plugin.getConfig().getInt("player_cache.max_offline", 500);
+        Iterator<Map.Entry<UUID, PlayerData>> eldest = offlinePlayers.entrySet().iterator();
+        while (offlinePlayers.size() > maxOffline && eldest.hasNext()) {
+            Map.Entry<UUID, PlayerData> candidate = eldest.next();
+            if (!candidate.getKey().equals(uuid)) {
+                evict(candidate, eldest);
+            }
+        }
+    }
+
+    /**
+     * Write back and drop offline players idle longer than player_cache.idle_minutes
+     * @return Number of entries evicted
+     */
+    public int evictIdlePlayers() {
+        long idleMillis = plugin.getConfig().getLong("player_cache.idle_minutes", 30) * 60_000L;
+        long cutoff = System.currentTimeMillis() - idleMillis;
+
+        int evicted = 0;
+        Iterator<Map.Entry<UUID, PlayerData>> it = offlinePlayers.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, PlayerData> entry = it.next();
+            if (offlineLastAccess.getOrDefault(entry.getKey(), 0L) <= cutoff) {
+                evict(entry, it);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Write back an offline entry and keep only its roster summary
+     */
+    private void evict(Map.Entry<UUID, PlayerData> entry, Iterator<Map.Entry<UUID, PlayerData>> it) {
+        // Iterate entries rather than calling get(): lookups reorder an access-ordered map
+        UUID uuid = entry.getKey();
+        PlayerData data = entry.getValue();
+        // A daily reset still in progress would otherwise write back yesterday's counters
+        if (dailyResetJob != null) {
+            dailyResetJob.resetNow(data);
+        }
+        plugin.getDataManager().savePlayer(data);
+        evictedRoster.put(uuid, new RosterEntry(data, System.currentTimeMillis()));
+
+        it.remove();
+        offlineLastAccess.remove(uuid);
+        cacheEvictions++;
+    }
+
+    /**
+     * Count players on a team, including evicted offline players
+     */
+    public int countTeamPlayers(int teamId, boolean aliveOnly) {
+        int count = 0;
+        for (PlayerData data : onlinePlayers.values()) {
+            if (data.getTeamId() == teamId && (!aliveOnly || data.isAlive())) count++;
+        }
+        for (PlayerData data : offlinePlayers.values()) {
+            if (data.getTeamId() == teamId && (!aliveOnly || data.isAlive())) count++;
+        }
+        for (RosterEntry entry : evictedRoster.values()) {
+            if (entry.teamId == teamId && (!aliveOnly || entry.alive)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Top players by total kills, including evicted offline players
+     * @return Name -> kills, highest first
+     */
+    public Map<String, Integer> getTopKillers(int limit) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        for (PlayerData data : onlinePlayers.values()) {
+            entries.add(Map.entry(data.getName(), data.getTotalKills()));
+        }
+        for (PlayerData data : offlinePlayers.values()) {
+            entries.add(Map.entry(data.getName(), data.getTotalKills()));
+        }
+        for (RosterEntry entry : evictedRoster.values()) {
+            entries.add(Map.entry(entry.name, entry.totalKills));
+        }
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        Map<String, Integer> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
     }
 
     // Win condition check
@@ -110,23 +297,77 @@ public class GameManager {
 
     // Daily reset
     public void performDailyReset() {
-        // Reset player daily stats
-        for (PlayerData data : playerDataMap.values()) {
-            data.resetDailyStats();
-        }
+        finishDailyReset();
 
-        // Assign new daily quests
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (getPlayerData(player).isAlive()) {
-                plugin.getQuestManager().assignDailyQuests(player);
-            }
-        }
+        // Reset daily stats and quests in the database (covers evicted players), committed now
+        plugin.getDataManager().resetDailyStats();
+
+        // Cached players are reset and given new quests a slice per tick, online players first
+        List<PlayerData> cached = new ArrayList<>(onlinePlayers.size() + offlinePlayers.size());
+        cached.addAll(onlinePlayers.values());
+        cached.addAll(offlinePlayers.values());
+        dailyResetJob = new DailyResetJob(plugin, cached);
+        dailyResetJob.runTaskTimer(plugin, 1L, 1L);
 
         MessageUtils.broadcast("&eA new day begins! Daily quests and limits have been reset.");
-        saveAllPlayers();
     }
 
-    public Map<UUID, PlayerData> getAllPlayerData() {
-        return playerDataMap;
+    /**
+     * Complete a daily reset still in progress on this tick (before a new one, or on disable)
+     */
+    public void finishDailyReset() {
+        if (dailyResetJob != null) {
+            dailyResetJob.finish();
+        }
+    }
+
+    /**
+     * The most recent daily reset, for progress reporting (null if none has run)
+     */
+    public DailyResetJob getDailyResetJob() {
+        return dailyResetJob;
+    }
+
+    public int getOnlineCacheSize() {
+        return onlinePlayers.size();
+    }
+
+    public int getOfflineCacheSize() {
+        return offlinePlayers.size();
+    }
+
+    public int getEvictedRosterSize() {
+        return evictedRoster.size();
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public long getCacheEvictions() {
+        return cacheEvictions;
+    }
+
+    /**
+     * What team counts and leaderboards need from an evicted player
+     */
+    private static class RosterEntry {
+        private final String name;
+        private final int teamId;
+        private final boolean alive;
+        private final int totalKills;
+        private final long evictedAt;
+
+        private RosterEntry(PlayerData data, long evictedAt) {
+            this.name = data.getName();
+            this.teamId = data.getTeamId();
+            this.alive = data.isAlive();
+            this.totalKills = data.getTotalKills();
+            this.evictedAt = evictedAt;
+        }
     }
 }
@@ -233,6 +233,9 @@ public class HealthManager {
         // Check if team should be eliminated
         if (team != null) {
             plugin.getTeamManager().checkTeamElimination(team.getTeamId());
+            plugin.getHudManager().invalidateTeam(team.getTeamId());
+        } else {
+            plugin.getHudManager().invalidate(player);
         }
 
         plugin.getLogger().info(player.getName() + " died. Revivals used: " + revivalsUsed + "/" + maxRevivals);
@@ -0,0 +1,355 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.utils.LocationUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Positions of heat sources (campfires, furnaces, lava, fire) in the game world, by chunk.
+ *
+ * Filled from chunk loads and kept current from block place/break/ignite/flow events, so
+ * the winter freezing check looks at a handful of registered positions instead of
+ * scanning 11x11x11 blocks. Entries are verified when read and dropped if the block is no
+ * longer a heat source. Once a chunk's surface scan has finished, a miss in that chunk is
+ * trusted; only players next to chunks still being scanned (or outside the game world)
+ * fall back to a block scan, cached per player until they move to another block.
+ */
+public class HeatSourceIndex {
+
+    public static final int RADIUS = 5;
+
+    private static final Set<Material> HEAT_SOURCES = EnumSet.of(
+        Material.CAMPFIRE, Material.SOUL_CAMPFIRE, Material.LAVA,
+        Material.FURNACE, Material.BLAST_FURNACE, Material.SMOKER,
+        Material.FIRE, Material.SOUL_FIRE
+    );
+
+    // Lava and fire from chunk loads are only indexed this close to the surface of any
+    // column within RADIUS (so lava in a cliff face next to lower ground is included);
+    // deeper ones cannot warm a player standing outdoors
+    private static final int SURFACE_WINDOW = RADIUS + 1;
+
+    // Fallback scan results are reused for a player on the same block for this long
+    private static final long SCAN_CACHE_MILLIS = 60_000L;
+
+    private final SeasonsOfConflict plugin;
+    private final Map<Long, Set<Long>> sourcesByChunk;
+    // Loaded chunks whose surface scan has finished
+    private final Set<Long> indexedChunks;
+    private final Map<UUID, FallbackScan> scanCache;
+
+    // Statistics
+    private long indexHits;
+    private long fallbackScans;
+
+    public HeatSourceIndex(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+        this.sourcesByChunk = new HashMap<>();
+        this.indexedChunks = new HashSet<>();
+        this.scanCache = new HashMap<>();
+    }
+
+    public static boolean isHeatSource(Material type) {
+        return HEAT_SOURCES.contains(type);
+    }
+
+    private boolean isGameWorld(World world) {
+        return world != null && world.getName().equals(plugin.getSettings().getWorldName());
+    }
+
+    /**
+     * Index every chunk of the game world that is already loaded (on enable)
+     */
+    public void indexLoadedChunks() {
+        World world = Bukkit.getWorld(plugin.getSettings().getWorldName());
+        if (world == null) return;
+
+        for (Chunk chunk : world.getLoadedChunks()) {
+            indexChunk(chunk);
+        }
+    }
+
+    /**
+     * Index a freshly loaded chunk. Furnaces and campfires are tile entities and are read
+     * directly; lava and fire near the surface are found by scanning a snapshot off the
+     * main thread.
+     */
+    public void indexChunk(Chunk chunk) {
+        if (!isGameWorld(chunk.getWorld())) return;
+
+        long chunkKey = chunkKey(chunk.getX(), chunk.getZ());
+        for (BlockState state : chunk.getTileEntities()) {
+            if (isHeatSource(state.getType())) {
+                sourcesByChunk.computeIfAbsent(chunkKey, k -> new HashSet<>())
+                              .add(LocationUtils.packBlock(state.getX(), state.getY(), state.getZ()));
+            }
+        }
+
+        World world = chunk.getWorld();
+        ChunkSnapshot snapshot = chunk.getChunkSnapshot(true, false, false);
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight() - 1;
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<Long> found = scanSurface(snapshot, minY, maxY);
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                // The chunk may have unloaded while it was being scanned
+                if (!world.isChunkLoaded(snapshot.getX(), snapshot.getZ())) return;
+                if (!found.isEmpty()) {
+                    sourcesByChunk.computeIfAbsent(chunkKey, k -> new HashSet<>()).addAll(found);
+                }
+                indexedChunks.add(chunkKey);
+            });
+        });
+    }
+
+    private static List<Long> scanSurface(ChunkSnapshot snapshot, int minY, int maxY) {
+        // Types are compared rather than block data, so flowing lava and aged fire match
+        List<Long> found = new ArrayList<>();
+        int baseX = snapshot.getX() << 4;
+        int baseZ = snapshot.getZ() << 4;
+
+        int[][] surface = new int[16][16];
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                surface[x][z] = snapshot.getHighestBlockYAt(x, z);
+            }
+        }
+        int[][] lowestNearby = lowestWithinRadius(surface);
+
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int fromY = Math.max(minY, lowestNearby[x][z] - SURFACE_WINDOW);
+                int toY = Math.min(maxY, surface[x][z] + SURFACE_WINDOW);
+                for (int y = fromY; y <= toY; y++) {
+                    if (isHeatSource(snapshot.getBlockType(x, y, z))) {
+                        found.add(LocationUtils.packBlock(baseX + x, y, baseZ + z));
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Lowest surface among the columns of this chunk within RADIUS of each column
+     * (a separable min filter: along x, then along z)
+     */
+    private static int[][] lowestWithinRadius(int[][] surface) {
+        int[][] alongX = new int[16][16];
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int lowest = Integer.MAX_VALUE;
+                for (int nx = Math.max(0, x - RADIUS); nx <= Math.min(15, x + RADIUS); nx++) {
+                    lowest = Math.min(lowest, surface[nx][z]);
+                }
+                alongX[x][z] = lowest;
+            }
+        }
+
+        int[][] lowest = new int[16][16];
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int min = Integer.MAX_VALUE;
+                for (int nz = Math.max(0, z - RADIUS); nz <= Math.min(15, z + RADIUS); nz++) {
+                    min = Math.min(min, alongX[x][nz]);
+                }
+                lowest[x][z] = min;
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * Forget an unloaded chunk
+     */
+    public void unloadChunk(Chunk chunk) {
+        if (!isGameWorld(chunk.getWorld())) return;
+        long chunkKey = chunkKey(chunk.getX(), chunk.getZ());
+        sourcesByChunk.remove(chunkKey);
+        indexedChunks.remove(chunkKey);
+    }
+
+    /**
+     * Register a position that is becoming a heat source. Called before the block changes,
+     * so the type is checked when the entry is read.
+     */
+    public void add(Block block) {
+        if (!isGameWorld(block.getWorld())) return;
+        sourcesByChunk.computeIfAbsent(chunkKey(block.getX() >> 4, block.getZ() >> 4), k -> new HashSet<>())
+                      .add(LocationUtils.packBlock(block));
+    }
+
+    /**
+     * Drop a position that is no longer a heat source
+     */
+    public void remove(Block block) {
+        if (!isGameWorld(block.getWorld())) return;
+        Set<Long> sources = sourcesByChunk.get(chunkKey(block.getX() >> 4, block.getZ() >> 4));
+        if (sources != null) {
+            sources.remove(LocationUtils.packBlock(block));
+        }
+    }
+
+    /**
+     * Check if a player is within 5 blocks of a heat source
+     */
+    public boolean isNearHeatSource(Player player) {
+        Location loc = player.getLocation();
+        World world = loc.getWorld();
+        int bx = loc.getBlockX();
+        int by = loc.getBlockY();
+        int bz = loc.getBlockZ();
+
+        if (isGameWorld(world)) {
+            if (hasIndexedSourceNear(world, bx, by, bz)) {
+                indexHits++;
+                return true;
+            }
+            if (isIndexed(bx, bz)) {
+                return false;
+            }
+        }
+
+        // Fallback while nearby chunks are still being scanned: scan around the player,
+        // at most once per block they stand on
+        FallbackScan cached = scanCache.get(player.getUniqueId());
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.matches(world, bx, by, bz) && now - cached.time < SCAN_CACHE_MILLIS) {
+            return cached.result;
+        }
+
+        boolean result = scanAround(world, bx, by, bz);
+        scanCache.put(player.getUniqueId(), new FallbackScan(world.getUID(), bx, by, bz, result, now));
+        fallbackScans++;
+        return result;
+    }
+
+    /**
+     * Check if every chunk within the radius of a block has finished its surface scan
+     */
+    private boolean isIndexed(int bx, int bz) {
+        for (int cx = (bx - RADIUS) >> 4; cx <= (bx + RADIUS) >> 4; cx++) {
+            for (int cz = (bz - RADIUS) >> 4; cz <= (bz + RADIUS) >> 4; cz++) {
+                if (!indexedChunks.contains(chunkKey(cx, cz))) return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasIndexedSourceNear(World world, int bx, int by, int bz) {
+        for (int cx = (bx - RADIUS) >> 4; cx <= (bx + RADIUS) >> 4; cx++) {
+            for (int cz = (bz - RADIUS) >> 4; cz <= (bz + RADIUS) >> 4; cz++) {
+                Set<Long> sources = sourcesByChunk.get(chunkKey(cx, cz));
+                if (sources == null) continue;
+
+                Iterator<Long> iterator = sources.iterator();
+                while (iterator.hasNext()) {
+                    long position = iterator.next();
+                    int x = LocationUtils.unpackX(position);
+                    int y = LocationUtils.unpackY(position);
+                    int z = LocationUtils.unpackZ(position);
+                    if (Math.abs(x - bx) > RADIUS || Math.abs(y - by) > RADIUS || Math.abs(z - bz) > RADIUS) {
+                        continue;
+                    }
+
+                    if (isHeatSource(world.getBlockAt(x, y, z).getType())) {
+                        return true;
+                    }
+                    // Burnt out, broken or flowed away without an event we track
+                    iterator.remove();
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scan the cube around a block for heat sources, indexing any that are found
+     */
+    private boolean scanAround(World world, int bx, int by, int bz) {
+        for (int x = -RADIUS; x <= RADIUS; x++) {
+            for (int y = -RADIUS; y <= RADIUS; y++) {
+                for (int z = -RADIUS; z <= RADIUS; z++) {
+                    Block block = world.getBlockAt(bx + x, by + y, bz + z);
+                    if (isHeatSource(block.getType())) {
+                        add(block);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forget a player's cached fallback scan (on quit)
+     */
+    public void forget(UUID uuid) {
+        scanCache.remove(uuid);
+    }
+
+    public int getIndexedCount() {
+        int count = 0;
+        for (Set<Long> sources : sourcesByChunk.values()) {
+            count += sources.size();
+        }
+        return count;
+    }
+
+    public long getIndexHits() {
+        return indexHits;
+    }
+
+    public long getFallbackScans() {
+        return fallbackScans;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Result of the last fallback scan for one player
+     */
+    private static class FallbackScan {
+        private final UUID worldId;
+        private final int x;
+        private final int y;
+        private final int z;
+        private final boolean result;
+        private final long time;
+
+        private FallbackScan(UUID worldId, int x, int y, int z, boolean result, long time) {
+            this.worldId = worldId;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.result = result;
+            this.time = time;
+        }
+
+        private boolean matches(World world, int bx, int by, int bz) {
+            return world.getUID().equals(worldId) && x == bx && y == by && z == bz;
+        }
+    }
+}
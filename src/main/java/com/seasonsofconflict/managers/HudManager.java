@@ -0,0 +1,205 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.models.GameState;
+import com.seasonsofconflict.models.PlayerData;
+import com.seasonsofconflict.models.TeamData;
+import com.seasonsofconflict.models.TerritoryData;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tracks which players' HUD (sidebar and boss bars) is out of date.
+ *
+ * Game code marks players dirty when something they can see changes - team points,
+ * territory ownership, deaths, season or cycle changes, territory transitions. The HUD
+ * task then re-renders only the dirty players, plus everyone on a slow fallback refresh in
+ * case a change was not reported. Capture bars are shared and kept current by the capture
+ * tick instead.
+ */
+public class HudManager {
+
+    private final SeasonsOfConflict plugin;
+    private final Set<UUID> dirty;
+    private boolean allDirty;
+    private long lastFullRefresh;
+
+    // Statistics
+    private long renderCount;
+
+    public HudManager(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+        this.dirty = new HashSet<>();
+        this.allDirty = true;
+    }
+
+    /**
+     * Mark one player's HUD dirty
+     */
+    public void invalidate(Player player) {
+        dirty.add(player.getUniqueId());
+    }
+
+    public void invalidate(UUID uuid) {
+        dirty.add(uuid);
+    }
+
+    /**
+     * Mark every online member of a team dirty (points, alive count)
+     */
+    public void invalidateTeam(int teamId) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (plugin.getGameManager().getPlayerData(player).getTeamId() == teamId) {
+                dirty.add(player.getUniqueId());
+            }
+        }
+    }
+
+    /**
+     * Mark every player standing in a territory dirty (ownership)
+     */
+    public void invalidateTerritory(int territoryId) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (plugin.getGameManager().getPlayerData(player).getCurrentTerritoryId() == territoryId) {
+                dirty.add(player.getUniqueId());
+            }
+        }
+    }
+
+    /**
+     * Mark every player dirty (season, cycle, apocalypse)
+     */
+    public void invalidateAll() {
+        allDirty = true;
+    }
+
+    /**
+     * Re-render dirty players, or everyone if the fallback refresh is due
+     */
+    public void flush() {
+        long now = System.currentTimeMillis();
+        if (now - lastFullRefresh >= plugin.getSettings().getHudFallbackRefreshSeconds() * 1000L) {
+            allDirty = true;
+        }
+
+        if (allDirty) {
+            plugin.getBossBarManager().updateSeasonBar();
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                render(player);
+            }
+            allDirty = false;
+            lastFullRefresh = now;
+            dirty.clear();
+            return;
+        }
+
+        if (dirty.isEmpty()) return;
+
+        for (UUID uuid : dirty) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                render(player);
+            }
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Forget a player (on quit)
+     */
+    public void remove(UUID uuid) {
+        dirty.remove(uuid);
+    }
+
+    private void render(Player player) {
+        plugin.getSidebarManager().render(player, buildSidebarLines(player));
+        plugin.getBossBarManager().updateBossBarForPlayer(player);
+        renderCount++;
+    }
+
+    private List<String> buildSidebarLines(Player player) {
+        PlayerData playerData = plugin.getGameManager().getPlayerData(player);
+        GameState gameState = plugin.getGameManager().getGameState();
+
+        // Get player info
+        TeamData team = plugin.getTeamManager().getTeam(playerData.getTeamId());
+        TerritoryData territory = plugin.getTerritoryManager().getPlayerTerritory(player);
+
+        List<String> lines = new ArrayList<>();
+
+        // Team info
+        if (team != null) {
+            lines.add(ChatColor.AQUA + "Team: " + team.getColoredName());
+            lines.add(ChatColor.YELLOW + "Points: " + ChatColor.WHITE + team.getQuestPoints());
+            int alive = plugin.getTeamManager().getAlivePlayerCount(team.getTeamId());
+            int total = plugin.getTeamManager().getPlayerCount(team.getTeamId());
+            lines.add(ChatColor.GREEN + "Alive: " + ChatColor.WHITE + alive + "/" + total);
+        }
+
+        lines.add(""); // Blank line
+
+        // Location info
+        if (territory != null) {
+            String ownerText;
+            if (territory.getOwnerTeamId() == 0) {
+                ownerText = ChatColor.GRAY + "Neutral";
+            } else if (territory.getOwnerTeamId() == playerData.getTeamId()) {
+                ownerText = ChatColor.GREEN + "Your Team";
+            } else {
+                TeamData ownerTeam = plugin.getTeamManager().getTeam(territory.getOwnerTeamId());
+                ownerText = ChatColor.RED + ownerTeam.getName();
+            }
+            lines.add(ChatColor.GOLD + "Territory: " + ChatColor.WHITE + territory.getName());
+            lines.add(ChatColor.GRAY + "Owner: " + ownerText);
+        } else {
+            lines.add(ChatColor.GRAY + "Territory: " + ChatColor.WHITE + "Wilderness");
+        }
+
+        lines.add(""); // Blank line
+
+        // Game state
+        lines.add(ChatColor.LIGHT_PURPLE + "Season: " + ChatColor.WHITE +
+            formatSeason(gameState.getCurrentSeason().name()));
+
+        String cycleText = gameState.isApocalypse() ?
+            ChatColor.DARK_RED + "APOCALYPSE" :
+            ChatColor.WHITE + String.valueOf(gameState.getCurrentCycle());
+        lines.add(ChatColor.RED + "Cycle: " + cycleText);
+
+        lines.add(""); // Blank line
+
+        // Player status
+        if (!playerData.isAlive()) {
+            lines.add(ChatColor.DARK_RED + "Status: DEAD");
+            int revivalsUsed = playerData.getRevivalsUsed();
+            int maxRevivals = plugin.getConfig().getInt("player.max_revivals_per_cycle", 2);
+            lines.add(ChatColor.YELLOW + "Revivals: " + revivalsUsed + "/" + maxRevivals);
+        } else {
+            if (playerData.getKillStreak() > 0) {
+                lines.add(ChatColor.GOLD + "Streak: " + ChatColor.WHITE + playerData.getKillStreak());
+            }
+            if (playerData.getBounty() > 0) {
+                lines.add(ChatColor.RED + "Bounty: " + ChatColor.WHITE + playerData.getBounty() + " pts");
+            }
+        }
+        return lines;
+    }
+
+    private String formatSeason(String season) {
+        return season.substring(0, 1).toUpperCase() + season.substring(1).toLowerCase();
+    }
+
+    /**
+     * Total player HUD renders since startup
+     */
+    public long getRenderCount() {
+        return renderCount;
+    }
+}
@@ -0,0 +1,310 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.models.PlayerData;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Spatial hash of online players for proximity queries.
+ *
+ * Players are bucketed into square cells per world, tagged with their team and alive
+ * flag. The grid is marked stale every tick and rebuilt on the first query after that,
+ * so positions are at most one tick old and idle ticks cost nothing. Queries only visit
+ * the cells overlapping the search radius and compare squared distances.
+ */
+public class PlayerGrid {
+
+    private static final int CELL_SHIFT = 4; // 16-block cells
+
+    private final SeasonsOfConflict plugin;
+    private final Map<World, WorldCells> worlds;
+    private boolean stale;
+
+    // Statistics
+    private long rebuildCount;
+
+    public PlayerGrid(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+        this.worlds = new HashMap<>();
+        this.stale = true;
+    }
+
+    /**
+     * Mark the grid out of date (called once per tick)
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    private void ensureFresh() {
+        if (!stale) return;
+
+        worlds.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            PlayerData data = plugin.getGameManager().getPlayerData(player);
+            Location loc = player.getLocation();
+            Entry entry = new Entry(player, loc.getX(), loc.getY(), loc.getZ(), data.getTeamId(), data.isAlive());
+            worlds.computeIfAbsent(loc.getWorld(), w -> new WorldCells()).add(entry);
+        }
+        stale = false;
+        rebuildCount++;
+    }
+
+    /**
+     * Get every online player in a world
+     */
+    public List<Entry> getPlayers(World world) {
+        ensureFresh();
+        WorldCells cells = worlds.get(world);
+        return cells != null ? Collections.unmodifiableList(cells.all) : List.of();
+    }
+
+    /**
+     * Get all online players within a radius (3D, inclusive) of a location
+     */
+    public List<Entry> getPlayersInRadius(Location center, double radius) {
+        return getPlayersInRadius(center, radius, null);
+    }
+
+    /**
+     * Get online players within a radius of a location that match a filter
+     * @param filter Extra condition, or null for none
+     */
+    public List<Entry> getPlayersInRadius(Location center, double radius, Predicate<Entry> filter) {
+        List<Entry> result = new ArrayList<>();
+        if (center == null || center.getWorld() == null) return result;
+
+        ensureFresh();
+        WorldCells cells = worlds.get(center.getWorld());
+        if (cells == null) return result;
+
+        double x = center.getX();
+        double y = center.getY();
+        double z = center.getZ();
+        double radiusSquared = radius * radius;
+
+        int minCellX = (int) Math.floor(x - radius) >> CELL_SHIFT;
+        int maxCellX = (int) Math.floor(x + radius) >> CELL_SHIFT;
+        int minCellZ = (int) Math.floor(z - radius) >> CELL_SHIFT;
+        int maxCellZ = (int) Math.floor(z + radius) >> CELL_SHIFT;
+
+        for (int cx = Math.max(minCellX, cells.minCellX); cx <= Math.min(maxCellX, cells.maxCellX); cx++) {
+            for (int cz = Math.max(minCellZ, cells.minCellZ); cz <= Math.min(maxCellZ, cells.maxCellZ); cz++) {
+                List<Entry> bucket = cells.buckets.get(cellKey(cx, cz));
+                if (bucket == null) continue;
+
+                for (Entry entry : bucket) {
+                    if (entry.distanceSquared(x, y, z) <= radiusSquared &&
+                        (filter == null || filter.test(entry))) {
+                        result.add(entry);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check whether any online player within a radius matches a filter
+     */
+    public boolean anyInRadius(Location center, double radius, Predicate<Entry> filter) {
+        return !getPlayersInRadius(center, radius, filter).isEmpty();
+    }
+
+    /**
+     * Find the nearest online player in the same world that matches a filter.
+     * Searches outward ring by ring and stops once no closer cell remains. Past a ring
+     * count of about the square root of the occupied cell count (sparse, spread-out
+     * worlds) it falls back to checking every player in the world instead.
+     * @param filter Condition the player must meet, or null for none
+     * @return Nearest match, or null if none
+     */
+    public Entry getNearest(Location center, Predicate<Entry> filter) {
+        if (center == null || center.getWorld() == null) return null;
+
+        ensureFresh();
+        WorldCells cells = worlds.get(center.getWorld());
+        if (cells == null) return null;
+
+        double x = center.getX();
+        double y = center.getY();
+        double z = center.getZ();
+        int originX = (int) Math.floor(x) >> CELL_SHIFT;
+        int originZ = (int) Math.floor(z) >> CELL_SHIFT;
+
+        // Rings beyond this cover no occupied cells
+        int maxRing = Math.max(Math.max(originX - cells.minCellX, cells.maxCellX - originX),
+                               Math.max(originZ - cells.minCellZ, cells.maxCellZ - originZ));
+        int ringLimit = (int) Math.ceil(Math.sqrt(cells.buckets.size()));
+
+        Nearest nearest = new Nearest(x, y, z, filter);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every cell in this ring is at least (ring - 1) full cells away
+            double ringDistance = (double) Math.max(0, ring - 1) * (1 << CELL_SHIFT);
+            if (nearest.entry != null && ringDistance * ringDistance > nearest.distanceSquared) {
+                return nearest.entry;
+            }
+
+            if (ring > ringLimit) {
+                // Cheaper to check every player than to keep walking mostly empty rings
+                for (Entry entry : cells.all) {
+                    nearest.offer(entry);
+                }
+                return nearest.entry;
+            }
+
+            if (ring == 0) {
+                nearest.offerAll(cells.buckets.get(cellKey(originX, originZ)));
+                continue;
+            }
+
+            // Only the outline of the ring (8 * ring cells); inner cells were visited already
+            for (int cx = originX - ring; cx <= originX + ring; cx++) {
+                nearest.offerAll(cells.buckets.get(cellKey(cx, originZ - ring)));
+                nearest.offerAll(cells.buckets.get(cellKey(cx, originZ + ring)));
+            }
+            for (int cz = originZ - ring + 1; cz <= originZ + ring - 1; cz++) {
+                nearest.offerAll(cells.buckets.get(cellKey(originX - ring, cz)));
+                nearest.offerAll(cells.buckets.get(cellKey(originX + ring, cz)));
+            }
+        }
+        return nearest.entry;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * Closest matching entry seen so far in a nearest-player search
+     */
+    private static class Nearest {
+        private final double x;
+        private final double y;
+        private final double z;
+        private final Predicate<Entry> filter;
+        private Entry entry;
+        private double distanceSquared = Double.MAX_VALUE;
+
+        private Nearest(double x, double y, double z, Predicate<Entry> filter) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.filter = filter;
+        }
+
+        private void offerAll(List<Entry> bucket) {
+            if (bucket == null) return;
+            for (Entry candidate : bucket) {
+                offer(candidate);
+            }
+        }
+
+        private void offer(Entry candidate) {
+            double candidateSquared = candidate.distanceSquared(x, y, z);
+            if (candidateSquared < distanceSquared && (filter == null || filter.test(candidate))) {
+                entry = candidate;
+                distanceSquared = candidateSquared;
+            }
+        }
+    }
+
+    /**
+     * Occupied cells of one world, with their bounding box
+     */
+    private static class WorldCells {
+        private final Map<Long, List<Entry>> buckets = new HashMap<>();
+        private final List<Entry> all = new ArrayList<>();
+        private int minCellX = Integer.MAX_VALUE;
+        private int maxCellX = Integer.MIN_VALUE;
+        private int minCellZ = Integer.MAX_VALUE;
+        private int maxCellZ = Integer.MIN_VALUE;
+
+        private void add(Entry entry) {
+            int cx = (int) Math.floor(entry.x) >> CELL_SHIFT;
+            int cz = (int) Math.floor(entry.z) >> CELL_SHIFT;
+            buckets.computeIfAbsent(cellKey(cx, cz), k -> new ArrayList<>()).add(entry);
+            all.add(entry);
+
+            minCellX = Math.min(minCellX, cx);
+            maxCellX = Math.max(maxCellX, cx);
+            minCellZ = Math.min(minCellZ, cz);
+            maxCellZ = Math.max(maxCellZ, cz);
+        }
+    }
+
+    /**
+     * A player's position, team and alive flag as of the last rebuild
+     */
+    public static class Entry {
+        private final Player player;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final int teamId;
+        private final boolean alive;
+
+        private Entry(Player player, double x, double y, double z, int teamId, boolean alive) {
+            this.player = player;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.teamId = teamId;
+            this.alive = alive;
+        }
+
+        private double distanceSquared(double ox, double oy, double oz) {
+            double dx = x - ox;
+            double dy = y - oy;
+            double dz = z - oz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        public Player getPlayer() {
+            return player;
+        }
+
+        public UUID getUUID() {
+            return player.getUniqueId();
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public double getZ() {
+            return z;
+        }
+
+        public int getTeamId() {
+            return teamId;
+        }
+
+        public boolean isAlive() {
+            return alive;
+        }
+
+        public Location getLocation() {
+            return player.getLocation();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.data.ConnectionPool;
+import com.seasonsofconflict.models.PlayerData;
+import com.seasonsofconflict.models.PlayerSkills;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a player's whole profile (player row, XP, skills and cooldowns) during async
+ * pre-login so the first touch on the main thread hits warm caches instead of the database.
+ *
+ * Profiles are loaded on the login thread, parked here, and installed into the manager
+ * caches on the main thread once the login is allowed - before PlayerJoinEvent fires.
+ */
+public class ProfileLoader {
+
+    // A preloaded profile whose login never completed is dropped after this long
+    private static final long STALE_AFTER_MILLIS = 60_000L;
+
+    private final SeasonsOfConflict plugin;
+    private final Map<UUID, PlayerProfile> preloaded;
+
+    // Statistics (preloads run on concurrent login threads)
+    private final AtomicLong loadedCount = new AtomicLong();
+    private long installedCount;
+
+    public ProfileLoader(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+        this.preloaded = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Load every table for a player with one pooled reader. Safe to call off the main thread.
+     */
+    public void preload(UUID uuid, String name) {
+        long now = System.currentTimeMillis();
+        preloaded.values().removeIf(profile -> now - profile.loadedAt > STALE_AFTER_MILLIS);
+
+        try (ConnectionPool.PooledReader reader = plugin.getDataManager().borrowReader()) {
+            PlayerProfile profile = new PlayerProfile(name, now);
+            profile.playerData = plugin.getDataManager().loadPlayer(uuid, reader);
+            profile.xpData = plugin.getXPManager().loadPlayerXP(uuid, reader);
+            profile.skills = plugin.getSkillManager().loadPlayerSkills(uuid, reader);
+            profile.cooldowns = plugin.getCooldownManager().loadCooldowns(uuid, reader);
+
+            preloaded.put(uuid, profile);
+            loadedCount.incrementAndGet();
+        } catch (SQLException e) {
+            // Not fatal - the managers fall back to loading lazily on first access
+            plugin.getLogger().warning("Failed to preload profile for " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Install a preloaded profile into the manager caches. Must run on the main thread.
+     * Entries already cached (e.g. a quick rejoin) are newer than the database and are kept.
+     * @return true if a preloaded profile was found
+     */
+    public boolean install(UUID uuid) {
+        PlayerProfile profile = preloaded.remove(uuid);
+        if (profile == null) {
+            return false;
+        }
+
+        plugin.getGameManager().installPlayerData(uuid, profile.name, profile.playerData, profile.loadedAt);
+        plugin.getXPManager().installPlayerXP(uuid, profile.xpData);
+        plugin.getSkillManager().installPlayerSkills(uuid, profile.skills);
+        plugin.getCooldownManager().installCooldowns(uuid, profile.cooldowns);
+
+        installedCount++;
+        return true;
+    }
+
+    /**
+     * Drop a preloaded profile without installing it (login was denied)
+     */
+    public void discard(UUID uuid) {
+        preloaded.remove(uuid);
+    }
+
+    public int getPendingCount() {
+        return preloaded.size();
+    }
+
+    public long getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    public long getInstalledCount() {
+        return installedCount;
+    }
+
+    /**
+     * Everything loaded for one player; null fields mean no row exists yet
+     */
+    private static class PlayerProfile {
+        private final String name;
+        private final long loadedAt;
+        private PlayerData playerData;
+        private XPManager.PlayerXPData xpData;
+        private PlayerSkills skills;
+        private Map<String, Long> cooldowns;
+
+        private PlayerProfile(String name, long loadedAt) {
+            this.name = name;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -2,24 +2,55 @@ package com.seasonsofconflict.managers;
 
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.models.*;
+import com.seasonsofconflict.utils.AliasTable;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.entity.Player;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class QuestManager {
 
+    private static final int DAILY_QUESTS_PER_PLAYER = 3;
+
+    // Templates that can be handed out as daily / weekly quests
+    private static final QuestTemplate[] DAILY_TEMPLATES = Arrays.stream(QuestTemplate.values())
+        .filter(q -> q.getCategory() != QuestCategory.WEEKLY)
+        .toArray(QuestTemplate[]::new);
+    private static final QuestTemplate[] WEEKLY_TEMPLATES = Arrays.stream(QuestTemplate.values())
+        .filter(q -> q.getCategory() == QuestCategory.WEEKLY)
+        .toArray(QuestTemplate[]::new);
+
+    static {
+        // Daily picks are tracked in a long bitmask of template indices
+        if (DAILY_TEMPLATES.length > Long.SIZE) {
+            throw new IllegalStateException("Daily quest mask holds at most " + Long.SIZE + " templates");
+        }
+    }
+
     private final SeasonsOfConflict plugin;
+    private final Random random;
+
+    // Seasonal daily quest weights, built the first time each season is drawn from
+    private final Map<Season, AliasTable> dailyQuestTables;
 
     public QuestManager(SeasonsOfConflict plugin) {
         this.plugin = plugin;
+        this.random = new Random();
+        this.dailyQuestTables = new EnumMap<>(Season.class);
     }
 
     /**
      * Assign 3 random daily quests to a player, weighted by season
      */
     public void assignDailyQuests(Player player) {
+        assignDailyQuests(player, true);
+    }
+
+    /**
+     * Assign daily quests to a player
+     * @param savePlayer Save the player's row now; false when the caller saves in a batch
+     */
+    public void assignDailyQuests(Player player, boolean savePlayer) {
         PlayerData data = plugin.getGameManager().getPlayerData(player);
 
         // Clear existing daily quests
@@ -28,25 +59,18 @@ public class QuestManager {
         // Get current season
         Season currentSeason = plugin.getGameManager().getGameState().getCurrentSeason();
 
-        // Get all daily quest templates (exclude weekly quests)
-        List<QuestTemplate> dailyQuests = Arrays.stream(QuestTemplate.values())
-            .filter(q -> q.getCategory() != QuestCategory.WEEKLY)
-            .collect(Collectors.toList());
-
-        // Create weighted quest pool based on season
-        List<QuestTemplate> weightedPool = createWeightedQuestPool(dailyQuests, currentSeason);
-
-        // Randomly select 3 unique quests
-        Set<QuestTemplate> selectedQuests = new HashSet<>();
-        Random random = new Random();
-
-        while (selectedQuests.size() < 3 && !weightedPool.isEmpty()) {
-            int index = random.nextInt(weightedPool.size());
-            QuestTemplate quest = weightedPool.get(index);
-
-            if (!selectedQuests.contains(quest)) {
-                selectedQuests.add(quest);
-            }
+        // Randomly select 3 unique quests, weighted by season (draws are O(1); repeats are
+        // drawn again, which is cheap with far more templates than picks)
+        AliasTable table = getDailyQuestTable(currentSeason);
+        int picks = Math.min(DAILY_QUESTS_PER_PLAYER, DAILY_TEMPLATES.length);
+        long picked = 0L;
+        QuestTemplate[] selectedQuests = new QuestTemplate[picks];
+        for (int count = 0; count < picks; ) {
+            int index = table.sample(random);
+            if ((picked & (1L << index)) != 0) continue;
+
+            picked |= 1L << index;
+            selectedQuests[count++] = DAILY_TEMPLATES[index];
         }
 
         // Assign selected quests to player
@@ -56,7 +80,10 @@ public class QuestManager {
         }
 
         // Save player data
-        plugin.getGameManager().savePlayerData(player.getUniqueId());
+        plugin.getDataManager().saveQuests(data);
+        if (savePlayer) {
+            plugin.getGameManager().savePlayerData(player.getUniqueId());
+        }
 
         // Notify player
         MessageUtils.sendSuccess(player, "Daily quests assigned!");
@@ -64,21 +91,16 @@ public class QuestManager {
     }
 
     /**
-     * Create weighted quest pool based on season
+     * Get the alias table of daily quest weights for a season
      */
-    private List<QuestTemplate> createWeightedQuestPool(List<QuestTemplate> quests, Season season) {
-        List<QuestTemplate> weightedPool = new ArrayList<>();
-
-        for (QuestTemplate quest : quests) {
-            double weight = getSeasonalWeight(quest.getCategory(), season);
-            int count = (int) Math.ceil(weight * 10); // Convert weight to count
-
-            for (int i = 0; i < count; i++) {
-                weightedPool.add(quest);
+    private AliasTable getDailyQuestTable(Season season) {
+        return dailyQuestTables.computeIfAbsent(season, s -> {
+            double[] weights = new double[DAILY_TEMPLATES.length];
+            for (int i = 0; i < DAILY_TEMPLATES.length; i++) {
+                weights[i] = getSeasonalWeight(DAILY_TEMPLATES[i].getCategory(), s);
             }
-        }
-
-        return weightedPool;
+            return new AliasTable(weights);
+        });
     }
 
     /**
@@ -110,22 +132,25 @@ public class QuestManager {
     /**
      * Update quest progress for a player
      */
-    public void updateQuestProgress(Player player, String progressKey, int amount) {
+    public void updateQuestProgress(Player player, QuestProgressKey progressKey, int amount) {
         PlayerData data = plugin.getGameManager().getPlayerData(player);
 
+        // Most events match none of the player's quests
+        PlayerQuest[] quests = data.getQuestsFor(progressKey);
+        if (quests == null) return;
+
         boolean questCompleted = false;
 
-        for (PlayerQuest quest : data.getActiveQuests()) {
+        for (PlayerQuest quest : quests) {
             if (quest.isCompleted()) continue;
 
-            if (quest.getProgressKey().equals(progressKey)) {
-                quest.incrementProgress(amount);
+            quest.incrementProgress(amount);
+            plugin.getDataManager().recordQuestProgress(player.getUniqueId(), quest.getTemplate(), amount);
 
-                // Check if quest was just completed
-                if (quest.isCompleted() && !questCompleted) {
-                    completeQuest(player, quest);
-                    questCompleted = true;
-                }
+            // Check if quest was just completed
+            if (quest.isCompleted() && !questCompleted) {
+                completeQuest(player, quest);
+                questCompleted = true;
             }
         }
 
@@ -185,23 +210,16 @@ public class QuestManager {
      * Assign weekly team quests
      */
     public void assignWeeklyQuests() {
-        // Get all weekly quest templates
-        List<QuestTemplate> weeklyQuests = Arrays.stream(QuestTemplate.values())
-            .filter(q -> q.getCategory() == QuestCategory.WEEKLY)
-            .collect(Collectors.toList());
-
-        if (weeklyQuests.isEmpty()) {
+        if (WEEKLY_TEMPLATES.length == 0) {
             plugin.getLogger().warning("No weekly quests available");
             return;
         }
 
-        Random random = new Random();
-
         // Assign a random weekly quest to each team
         for (TeamData team : plugin.getTeamManager().getAllTeams()) {
             if (team.isEliminated()) continue;
 
-            QuestTemplate weeklyQuest = weeklyQuests.get(random.nextInt(weeklyQuests.size()));
+            QuestTemplate weeklyQuest = WEEKLY_TEMPLATES[random.nextInt(WEEKLY_TEMPLATES.length)];
 
             team.setWeeklyQuestId(weeklyQuest.ordinal());
             team.setWeeklyQuestProgress(0);
@@ -231,16 +249,13 @@ public class QuestManager {
     /**
      * Update weekly quest progress for a team
      */
-    public void updateWeeklyQuestProgress(TeamData team, String progressKey, int amount) {
-        int questId = team.getWeeklyQuestId();
-
-        if (questId < 0 || questId >= QuestTemplate.values().length) {
+    public void updateWeeklyQuestProgress(TeamData team, QuestProgressKey progressKey, int amount) {
+        QuestTemplate template = QuestTemplate.fromId(team.getWeeklyQuestId());
+        if (template == null) {
             return;
         }
 
-        QuestTemplate template = QuestTemplate.values()[questId];
-
-        if (template.getProgressKey().equals(progressKey)) {
+        if (template.getProgressKeyId() == progressKey) {
             team.setWeeklyQuestProgress(team.getWeeklyQuestProgress() + amount);
 
             // Check if quest is completed
@@ -275,13 +290,7 @@ public class QuestManager {
      * Get weekly quest for a team
      */
     public QuestTemplate getWeeklyQuest(TeamData team) {
-        int questId = team.getWeeklyQuestId();
-
-        if (questId < 0 || questId >= QuestTemplate.values().length) {
-            return null;
-        }
-
-        return QuestTemplate.values()[questId];
+        return QuestTemplate.fromId(team.getWeeklyQuestId());
     }
 
     /**
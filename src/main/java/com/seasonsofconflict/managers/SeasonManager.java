@@ -8,8 +8,6 @@ import com.seasonsofconflict.utils.MessageUtils;
 import com.seasonsofconflict.utils.TitleUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
-import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
@@ -188,36 +186,7 @@ public class SeasonManager {
      * Check if player is near a heat source (campfire, lava, furnace) within 5 blocks
      */
     public boolean isNearHeatSource(Player player) {
-        Location playerLoc = player.getLocation();
-        int radius = 5;
-
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    Block block = playerLoc.getWorld().getBlockAt(
-                        playerLoc.getBlockX() + x,
-                        playerLoc.getBlockY() + y,
-                        playerLoc.getBlockZ() + z
-                    );
-
-                    Material type = block.getType();
-
-                    // Check for heat sources
-                    if (type == Material.CAMPFIRE ||
-                        type == Material.SOUL_CAMPFIRE ||
-                        type == Material.LAVA ||
-                        type == Material.FURNACE ||
-                        type == Material.BLAST_FURNACE ||
-                        type == Material.SMOKER ||
-                        type == Material.FIRE ||
-                        type == Material.SOUL_FIRE) {
-                        return true;
-                    }
-                }
-            }
-        }
-
-        return false;
+        return plugin.getHeatSourceIndex().isNearHeatSource(player);
     }
 
     /**
@@ -0,0 +1,154 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Renders the sidebar scoreboard incrementally.
+ *
+ * Each sidebar line is a fixed, invisible score entry (a unique color code) owned by its
+ * own scoreboard team; the visible text lives in the team prefix. The last rendered text
+ * of every line is remembered per player, so a render only touches lines whose text
+ * changed and an unchanged sidebar sends no packets at all.
+ */
+public class SidebarManager {
+
+    private static final int MAX_LINES = 15;
+    private static final String OBJECTIVE_NAME = "soc_main";
+    private static final String TITLE = ChatColor.GOLD + "" + ChatColor.BOLD + "Seasons of Conflict";
+
+    // Invisible, unique score entry per line
+    private static final String[] LINE_ENTRIES = new String[MAX_LINES];
+
+    static {
+        ChatColor[] colors = ChatColor.values();
+        for (int i = 0; i < MAX_LINES; i++) {
+            LINE_ENTRIES[i] = colors[i].toString();
+        }
+    }
+
+    private final SeasonsOfConflict plugin;
+    private final Map<UUID, Sidebar> sidebars;
+
+    // Statistics
+    private long lineUpdates;
+
+    public SidebarManager(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+        this.sidebars = new HashMap<>();
+    }
+
+    /**
+     * Show these lines (top to bottom) on a player's sidebar, updating only what changed.
+     * Lines beyond the 15th are dropped.
+     */
+    public void render(Player player, List<String> lines) {
+        Sidebar sidebar = sidebars.get(player.getUniqueId());
+        if (sidebar == null || player.getScoreboard() != sidebar.scoreboard) {
+            // First render, or something else replaced the player's scoreboard
+            sidebar = createSidebar(player);
+            if (sidebar == null) return;
+            sidebars.put(player.getUniqueId(), sidebar);
+        }
+
+        int count = Math.min(lines.size(), MAX_LINES);
+        for (int i = 0; i < count; i++) {
+            String text = lines.get(i);
+            if (text.equals(sidebar.rendered[i])) continue;
+
+            sidebar.line(i).setPrefix(text);
+            sidebar.rendered[i] = text;
+            lineUpdates++;
+        }
+
+        // Show newly used lines, hide lines that are no longer used
+        for (int i = sidebar.lineCount; i < count; i++) {
+            sidebar.objective.getScore(LINE_ENTRIES[i]).setScore(MAX_LINES - i);
+        }
+        for (int i = count; i < sidebar.lineCount; i++) {
+            sidebar.scoreboard.resetScores(LINE_ENTRIES[i]);
+            sidebar.rendered[i] = null;
+        }
+        sidebar.lineCount = count;
+    }
+
+    private Sidebar createSidebar(Player player) {
+        org.bukkit.scoreboard.ScoreboardManager manager = Bukkit.getScoreboardManager();
+        if (manager == null) return null;
+
+        Scoreboard scoreboard = player.getScoreboard();
+        if (scoreboard == manager.getMainScoreboard()) {
+            scoreboard = manager.getNewScoreboard();
+            player.setScoreboard(scoreboard);
+        }
+
+        Objective objective = scoreboard.getObjective(OBJECTIVE_NAME);
+        if (objective != null) {
+            // Left over from before this manager tracked the player; start clean
+            objective.unregister();
+        }
+        objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, "dummy", TITLE);
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+        return new Sidebar(scoreboard, objective);
+    }
+
+    /**
+     * Forget a player's sidebar state (on quit)
+     */
+    public void remove(UUID uuid) {
+        sidebars.remove(uuid);
+    }
+
+    public int getSidebarCount() {
+        return sidebars.size();
+    }
+
+    /**
+     * Total sidebar lines re-sent since startup
+     */
+    public long getLineUpdates() {
+        return lineUpdates;
+    }
+
+    /**
+     * One player's scoreboard and the text last sent for each line
+     */
+    private static class Sidebar {
+        private final Scoreboard scoreboard;
+        private final Objective objective;
+        private final Team[] teams = new Team[MAX_LINES];
+        private final String[] rendered = new String[MAX_LINES];
+        private int lineCount;
+
+        private Sidebar(Scoreboard scoreboard, Objective objective) {
+            this.scoreboard = scoreboard;
+            this.objective = objective;
+        }
+
+        private Team line(int index) {
+            Team team = teams[index];
+            if (team == null) {
+                String name = "soc_line_" + index;
+                team = scoreboard.getTeam(name);
+                if (team == null) {
+                    team = scoreboard.registerNewTeam(name);
+                }
+                team.addEntry(LINE_ENTRIES[index]);
+                teams[index] = team;
+            }
+            return team;
+        }
+    }
+}
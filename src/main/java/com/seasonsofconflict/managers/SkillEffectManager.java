@@ -35,7 +35,7 @@ public class SkillEffectManager {
      */
     public boolean hasSkill(Player player, Skill skill) {
         PlayerSkills skills = plugin.getSkillManager().getPlayerSkills(player.getUniqueId());
-        return skills.hasSkill(skill.getTree(), skill.getTier());
+        return skills.hasSkill(skill);
     }
 
     /**
@@ -47,7 +47,7 @@ public class SkillEffectManager {
     }
 
     /**
-     * Check if player has a skill by internal name
+     * Check if player has a skill by internal name (hot paths should use hasSkill with the enum)
      */
     public boolean hasSkillByName(Player player, String internalName) {
         Skill skill = Skill.fromInternalName(internalName);
@@ -62,7 +62,7 @@ public class SkillEffectManager {
      * Swift Strikes: Apply +15% attack speed
      */
     public void applySwiftStrikes(Player player) {
-        if (!hasSkillByName(player, "swift_strikes")) {
+        if (!hasSkill(player, Skill.SWIFT_STRIKES)) {
             return;
         }
 
@@ -79,7 +79,7 @@ public class SkillEffectManager {
      * Iron Skin: Apply +2 hearts (4 HP) max health
      */
     public void applyIronSkin(Player player) {
-        if (!hasSkillByName(player, "iron_skin")) {
+        if (!hasSkill(player, Skill.IRON_SKIN)) {
             return;
         }
 
@@ -95,7 +95,7 @@ public class SkillEffectManager {
      * Bloodlust: Apply damage stacking (+5% per hit, max 3 stacks)
      */
     public double applyBloodlust(Player attacker, UUID targetUUID, double baseDamage) {
-        if (!hasSkillByName(attacker, "bloodlust")) {
+        if (!hasSkill(attacker, Skill.BLOODLUST)) {
             return baseDamage;
         }
 
@@ -150,7 +150,7 @@ public class SkillEffectManager {
      * Critical Precision: Check for crit (20% chance, +50% damage)
      */
     public double applyCriticalPrecision(Player player, double baseDamage) {
-        if (!hasSkillByName(player, "critical_precision")) {
+        if (!hasSkill(player, Skill.CRITICAL_PRECISION)) {
             return baseDamage;
         }
 
@@ -167,7 +167,7 @@ public class SkillEffectManager {
      * Note: This modifies effective armor, handled in damage calculation
      */
     public double applyArmorBreaker(Player player, double damage, double armorReduction) {
-        if (!hasSkillByName(player, "armor_breaker")) {
+        if (!hasSkill(player, Skill.ARMOR_BREAKER)) {
             return damage * armorReduction;
         }
 
@@ -180,7 +180,7 @@ public class SkillEffectManager {
      * Execution: Bonus damage to low health targets (<30% HP)
      */
     public double applyExecution(Player player, double baseDamage, double targetHealthPercent) {
-        if (!hasSkillByName(player, "execution")) {
+        if (!hasSkill(player, Skill.EXECUTION)) {
             return baseDamage;
         }
 
@@ -228,7 +228,7 @@ public class SkillEffectManager {
      * Fortune's Touch: +15% chance for double drops
      */
     public boolean applyFortuneTouch(Player player) {
-        if (!hasSkillByName(player, "fortunes_touch")) {
+        if (!hasSkill(player, Skill.FORTUNES_TOUCH)) {
             return false;
         }
         return Math.random() < 0.15;
@@ -238,7 +238,7 @@ public class SkillEffectManager {
      * Swift Hands: -20% block break time (Haste I effect)
      */
     public void applySwiftHands(Player player) {
-        if (!hasSkillByName(player, "swift_hands")) {
+        if (!hasSkill(player, Skill.SWIFT_HANDS)) {
             return;
         }
         // Apply Haste I effect continuously
@@ -255,7 +255,7 @@ public class SkillEffectManager {
      * Lumberjack: +50% wood drops
      */
     public int applyLumberjack(Player player, int baseDrops) {
-        if (!hasSkillByName(player, "lumberjack")) {
+        if (!hasSkill(player, Skill.LUMBERJACK)) {
             return baseDrops;
         }
         // +50% more drops: 1 becomes 2, 2 becomes 3, etc.
@@ -266,7 +266,7 @@ public class SkillEffectManager {
      * Green Thumb: +20% crop yields
      */
     public int applyGreenThumb(Player player, int baseYield) {
-        if (!hasSkillByName(player, "green_thumb")) {
+        if (!hasSkill(player, Skill.GREEN_THUMB)) {
             return baseYield;
         }
         // +20% more yields: 1 becomes 2, 5 becomes 6, etc.
@@ -281,7 +281,7 @@ public class SkillEffectManager {
      * Hardy: Apply +3 hearts (6 HP) max health
      */
     public void applyHardy(Player player) {
-        if (!hasSkillByName(player, "hardy")) {
+        if (!hasSkill(player, Skill.HARDY)) {
             return;
         }
 
@@ -297,7 +297,7 @@ public class SkillEffectManager {
      * Thick Skin: Apply -10% damage reduction
      */
     public double applyThickSkin(Player player, double damage) {
-        if (!hasSkillByName(player, "thick_skin")) {
+        if (!hasSkill(player, Skill.THICK_SKIN)) {
             return damage;
         }
         return damage * 0.90; // 10% reduction
@@ -307,7 +307,7 @@ public class SkillEffectManager {
      * Hunger Resistance: +30% food saturation
      */
     public float applyHungerResistance(Player player, float saturation) {
-        if (!hasSkillByName(player, "hunger_resistance")) {
+        if (!hasSkill(player, Skill.HUNGER_RESISTANCE)) {
             return saturation;
         }
         return saturation * 1.30f; // 30% more saturation
@@ -317,14 +317,14 @@ public class SkillEffectManager {
      * Regeneration: 0.5 HP every 5s when out of combat
      */
     public boolean canRegenerate(Player player) {
-        return hasSkillByName(player, "regeneration") && isOutOfCombat(player);
+        return hasSkill(player, Skill.REGENERATION) && isOutOfCombat(player);
     }
 
     /**
      * Fire Resistance: 80% resistance to fire/lava damage
      */
     public double applyFireResistance(Player player, double damage) {
-        if (!hasSkillByName(player, "fire_resistance")) {
+        if (!hasSkill(player, Skill.FIRE_RESISTANCE)) {
             return damage;
         }
         return damage * 0.20; // 80% reduction
@@ -334,7 +334,7 @@ public class SkillEffectManager {
      * Fall Damage Negation: Reduce/negate fall damage
      */
     public double applyFallDamageNegation(Player player, double damage, double fallDistance) {
-        if (!hasSkillByName(player, "fall_damage_negation")) {
+        if (!hasSkill(player, Skill.FALL_DAMAGE_NEGATION)) {
             return damage;
         }
 
@@ -354,7 +354,7 @@ public class SkillEffectManager {
      * Shared Victory: +10% team points from quests
      */
     public int applySharedVictory(Player player, int basePoints) {
-        if (!hasSkillByName(player, "shared_victory")) {
+        if (!hasSkill(player, Skill.SHARED_VICTORY)) {
             return basePoints;
         }
         return (int) (basePoints * 1.10);
@@ -364,7 +364,7 @@ public class SkillEffectManager {
      * Pack Tactics: +5% damage per nearby teammate (max 20%)
      */
     public double applyPackTactics(Player player, double baseDamage) {
-        if (!hasSkillByName(player, "pack_tactics")) {
+        if (!hasSkill(player, Skill.PACK_TACTICS)) {
             return baseDamage;
         }
 
@@ -390,7 +390,7 @@ public class SkillEffectManager {
      * Resource Sharing: Check if drops should be duplicated to teammate
      */
     public boolean applyResourceSharing(Player player) {
-        if (!hasSkillByName(player, "resource_sharing")) {
+        if (!hasSkill(player, Skill.RESOURCE_SHARING)) {
             return false;
         }
         return Math.random() < 0.10; // 10% chance
@@ -426,7 +426,7 @@ public class SkillEffectManager {
      * Lifesteal: Heal 15% of damage dealt (PvP only)
      */
     public double applyLifesteal(Player attacker, double damageDealt, boolean isPvP) {
-        if (!isPvP || !hasSkillByName(attacker, "lifesteal")) {
+        if (!isPvP || !hasSkill(attacker, Skill.LIFESTEAL)) {
             return 0;
         }
 
@@ -439,14 +439,14 @@ public class SkillEffectManager {
      * Titan's Grip: Apply +10% damage and knockback resistance
      */
     public double applyTitansGrip(Player player, double baseDamage) {
-        if (!hasSkillByName(player, "titans_grip")) {
+        if (!hasSkill(player, Skill.TITANS_GRIP)) {
             return baseDamage;
         }
         return baseDamage * 1.10;
     }
 
     public void applyTitansGripKnockbackRes(Player player) {
-        if (!hasSkillByName(player, "titans_grip")) {
+        if (!hasSkill(player, Skill.TITANS_GRIP)) {
             return;
         }
         // Apply knockback resistance via attribute
@@ -460,7 +460,7 @@ public class SkillEffectManager {
      * Poison/Wither Resistance: 90% reduced duration, 75% reduced damage
      */
     public double applyPoisonWitherResistance(Player player, double damage) {
-        if (!hasSkillByName(player, "poison_wither_resistance")) {
+        if (!hasSkill(player, Skill.POISON_WITHER_RESISTANCE)) {
             return damage;
         }
         return damage * 0.25; // 75% damage reduction
@@ -470,7 +470,7 @@ public class SkillEffectManager {
      * Get reduced potion effect duration (for Poison/Wither Resistance)
      */
     public int getReducedPotionDuration(Player player, int baseDuration) {
-        if (!hasSkillByName(player, "poison_wither_resistance")) {
+        if (!hasSkill(player, Skill.POISON_WITHER_RESISTANCE)) {
             return baseDuration;
         }
         return (int) (baseDuration * 0.10); // 90% duration reduction
@@ -480,14 +480,14 @@ public class SkillEffectManager {
      * Winter Adaptation: Check if immune to freezing, get damage bonus in Winter
      */
     public boolean isWinterAdaptation(Player player) {
-        return hasSkillByName(player, "winter_adaptation");
+        return hasSkill(player, Skill.WINTER_ADAPTATION);
     }
 
     /**
      * Thorns: Reflect damage back to attacker
      */
     public double applyThorns(Player defender, double damageReceived) {
-        if (!hasSkillByName(defender, "thorns")) {
+        if (!hasSkill(defender, Skill.THORNS)) {
             return 0;
         }
         return damageReceived * 0.20; // 20% reflected
@@ -497,7 +497,7 @@ public class SkillEffectManager {
      * Unstoppable: 75% reduced duration of debuffs
      */
     public int getUnstoppableDebuffDuration(Player player, int baseDuration) {
-        if (!hasSkillByName(player, "unstoppable")) {
+        if (!hasSkill(player, Skill.UNSTOPPABLE)) {
             return baseDuration;
         }
         return (int) (baseDuration * 0.25); // 75% duration reduction
@@ -507,14 +507,14 @@ public class SkillEffectManager {
      * Check if player has Unstoppable (for knockback resistance)
      */
     public boolean hasUnstoppable(Player player) {
-        return hasSkillByName(player, "unstoppable");
+        return hasSkill(player, Skill.UNSTOPPABLE);
     }
 
     /**
      * Combat Medic: Apply revival discount
      */
     public double applyCombatMedicDiscount(Player healer, double baseCost) {
-        if (!hasSkillByName(healer, "combat_medic")) {
+        if (!hasSkill(healer, Skill.COMBAT_MEDIC)) {
             return baseCost;
         }
         return baseCost * 0.75; // 25% discount
@@ -533,7 +533,7 @@ public class SkillEffectManager {
 
             int otherTeam = plugin.getGameManager().getPlayerData(other).getTeamId();
 
-            if (playerTeam == otherTeam && hasSkillByName(other, "inspirational_leader")) {
+            if (playerTeam == otherTeam && hasSkill(other, Skill.INSPIRATIONAL_LEADER)) {
                 // Check if within 50 blocks
                 if (player.getWorld().equals(other.getWorld()) &&
                     player.getLocation().distance(other.getLocation()) <= 50.0) {
@@ -548,7 +548,7 @@ public class SkillEffectManager {
      * Strategic Mind: Check if player has the skill
      */
     public boolean hasStrategicMind(Player player) {
-        return hasSkillByName(player, "strategic_mind");
+        return hasSkill(player, Skill.STRATEGIC_MIND);
     }
 
     /**
@@ -565,7 +565,7 @@ public class SkillEffectManager {
                 return playerTeam != null && otherTeam != null &&
                        playerTeam.getTeamId() == otherTeam.getTeamId();
             })
-            .anyMatch(p -> hasSkillByName(p, "inspirational_leader"));
+            .anyMatch(p -> hasSkill(p, Skill.INSPIRATIONAL_LEADER));
     }
 
     /**
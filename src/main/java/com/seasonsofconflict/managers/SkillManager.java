@@ -1,12 +1,14 @@
 package com.seasonsofconflict.managers;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.data.ConnectionPool;
 import com.seasonsofconflict.models.PlayerSkills;
 import com.seasonsofconflict.models.SkillTier;
 import com.seasonsofconflict.models.SkillTree;
 
 import java.sql.*;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -174,8 +176,8 @@ public class SkillManager {
     public void resetAllPlayersSkills() {
         for (PlayerSkills skills : skillsCache.values()) {
             skills.resetAll();
-            savePlayerSkills(skills);
         }
+        saveAll();
 
         plugin.getLogger().info("Reset all player skills due to cycle advance");
     }
@@ -184,15 +186,27 @@ public class SkillManager {
      * Load player skills from database
      */
     private PlayerSkills loadPlayerSkills(UUID playerUUID) {
-        String sql = "SELECT * FROM player_skills WHERE player_uuid = ?";
+        // Pooled read-only connection - safe off the main thread
+        try (ConnectionPool.PooledReader reader = plugin.getDataManager().borrowReader()) {
+            return loadPlayerSkills(playerUUID, reader);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to load skills for player " + playerUUID + ": " + e.getMessage());
+        }
 
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        return null;
+    }
 
-            pstmt.setString(1, playerUUID.toString());
-            ResultSet rs = pstmt.executeQuery();
+    /**
+     * Load player skills using an already borrowed reader (null if no row)
+     */
+    public PlayerSkills loadPlayerSkills(UUID playerUUID, ConnectionPool.PooledReader reader) throws SQLException {
+        String sql = "SELECT * FROM player_skills WHERE player_uuid = ?";
+        plugin.getDataManager().getWriteQueue().flushIfPending(skillsKey(playerUUID));
 
+        PreparedStatement pstmt = reader.prepare(sql);
+        pstmt.setString(1, playerUUID.toString());
+
+        try (ResultSet rs = pstmt.executeQuery()) {
             if (rs.next()) {
                 PlayerSkills skills = new PlayerSkills(playerUUID);
                 skills.setSkillPointsAvailable(rs.getInt("skill_points_available"));
@@ -215,13 +229,24 @@ public class SkillManager {
 
                 return skills;
             }
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to load skills for player " + playerUUID + ": " + e.getMessage());
         }
-
         return null;
     }
 
+    /**
+     * Install skills that were preloaded off the main thread.
+     * Ignored if the player is already cached; a missing row creates a fresh record.
+     */
+    public void installPlayerSkills(UUID playerUUID, PlayerSkills skills) {
+        if (skillsCache.containsKey(playerUUID)) return;
+
+        if (skills == null) {
+            skills = new PlayerSkills(playerUUID);
+            savePlayerSkills(skills);
+        }
+        skillsCache.put(playerUUID, skills);
+    }
+
     /**
      * Helper to load skills for a specific tree from ResultSet
      */
@@ -245,76 +270,79 @@ public class SkillManager {
         }
     }
 
+    private static final String SAVE_SKILLS_SQL = """
+        INSERT OR REPLACE INTO player_skills
+        (player_uuid, skill_points_available, skill_points_spent, total_xp_earned,
+         combat_tier1, combat_tier2, combat_tier3, combat_tier4, combat_ultimate,
+         gathering_tier1, gathering_tier2, gathering_tier3, gathering_tier4, gathering_ultimate,
+         survival_tier1, survival_tier2, survival_tier3, survival_tier4, survival_ultimate,
+         teamwork_tier1, teamwork_tier2, teamwork_tier3, teamwork_tier4, teamwork_ultimate,
+         last_reset_time, ultimate_count)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
     /**
-     * Save player skills to database
+     * Queue player skills for the database writer
      */
     public void savePlayerSkills(PlayerSkills skills) {
-        String sql = """
-            INSERT OR REPLACE INTO player_skills
-            (player_uuid, skill_points_available, skill_points_spent, total_xp_earned,
-             combat_tier1, combat_tier2, combat_tier3, combat_tier4, combat_ultimate,
-             gathering_tier1, gathering_tier2, gathering_tier3, gathering_tier4, gathering_ultimate,
-             survival_tier1, survival_tier2, survival_tier3, survival_tier4, survival_ultimate,
-             teamwork_tier1, teamwork_tier2, teamwork_tier3, teamwork_tier4, teamwork_ultimate,
-             last_reset_time, ultimate_count)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-            """;
-
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, skills.getPlayerUUID().toString());
-            pstmt.setInt(2, skills.getSkillPointsAvailable());
-            pstmt.setInt(3, skills.getSkillPointsSpent());
-            pstmt.setInt(4, skills.getTotalXPEarned());
+        plugin.getDataManager().getWriteQueue().enqueue(skillsKey(skills.getPlayerUUID()), SAVE_SKILLS_SQL,
+            skillsParams(skills));
+    }
+
+    private Object[] skillsParams(PlayerSkills skills) {
+        return new Object[] {
+            skills.getPlayerUUID().toString(),
+            skills.getSkillPointsAvailable(),
+            skills.getSkillPointsSpent(),
+            skills.getTotalXPEarned(),
 
             // Combat tree
-            pstmt.setString(5, skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_1));
-            pstmt.setString(6, skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_2));
-            pstmt.setString(7, skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_3));
-            pstmt.setString(8, skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_4));
-            pstmt.setInt(9, skills.hasSkill(SkillTree.COMBAT, SkillTier.ULTIMATE) ? 1 : 0);
+            skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_1),
+            skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_2),
+            skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_3),
+            skills.getSkill(SkillTree.COMBAT, SkillTier.TIER_4),
+            skills.hasSkill(SkillTree.COMBAT, SkillTier.ULTIMATE) ? 1 : 0,
 
             // Gathering tree
-            pstmt.setString(10, skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_1));
-            pstmt.setString(11, skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_2));
-            pstmt.setString(12, skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_3));
-            pstmt.setString(13, skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_4));
-            pstmt.setInt(14, skills.hasSkill(SkillTree.GATHERING, SkillTier.ULTIMATE) ? 1 : 0);
+            skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_1),
+            skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_2),
+            skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_3),
+            skills.getSkill(SkillTree.GATHERING, SkillTier.TIER_4),
+            skills.hasSkill(SkillTree.GATHERING, SkillTier.ULTIMATE) ? 1 : 0,
 
             // Survival tree
-            pstmt.setString(15, skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_1));
-            pstmt.setString(16, skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_2));
-            pstmt.setString(17, skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_3));
-            pstmt.setString(18, skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_4));
-            pstmt.setInt(19, skills.hasSkill(SkillTree.SURVIVAL, SkillTier.ULTIMATE) ? 1 : 0);
+            skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_1),
+            skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_2),
+            skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_3),
+            skills.getSkill(SkillTree.SURVIVAL, SkillTier.TIER_4),
+            skills.hasSkill(SkillTree.SURVIVAL, SkillTier.ULTIMATE) ? 1 : 0,
 
             // Teamwork tree
-            pstmt.setString(20, skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_1));
-            pstmt.setString(21, skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_2));
-            pstmt.setString(22, skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_3));
-            pstmt.setString(23, skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_4));
-            pstmt.setInt(24, skills.hasSkill(SkillTree.TEAMWORK, SkillTier.ULTIMATE) ? 1 : 0);
+            skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_1),
+            skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_2),
+            skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_3),
+            skills.getSkill(SkillTree.TEAMWORK, SkillTier.TIER_4),
+            skills.hasSkill(SkillTree.TEAMWORK, SkillTier.ULTIMATE) ? 1 : 0,
 
             // Metadata
-            pstmt.setLong(25, skills.getLastResetTime());
-            pstmt.setInt(26, skills.getUltimateCount());
-
-            pstmt.executeUpdate();
+            skills.getLastResetTime(),
+            skills.getUltimateCount()
+        };
+    }
 
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save skills for player " + skills.getPlayerUUID() + ": " + e.getMessage());
-        }
+    private static String skillsKey(UUID playerUUID) {
+        return "player_skills:" + playerUUID;
     }
 
     /**
      * Save all cached player skills
      */
     public void saveAll() {
+        Map<String, Object[]> rows = new LinkedHashMap<>();
         for (PlayerSkills skills : skillsCache.values()) {
-            savePlayerSkills(skills);
+            rows.put(skillsKey(skills.getPlayerUUID()), skillsParams(skills));
         }
+        plugin.getDataManager().saveBatch(SAVE_SKILLS_SQL, rows);
     }
 
     /**
@@ -489,7 +489,7 @@ public class SkillTreeGUI {
         String skillNameLine = ChatColor.stripColor(lore.get(1));
 
         // Find skill by display name
-        Skill skill = findSkillByDisplayName(skillNameLine);
+        Skill skill = Skill.fromDisplayName(skillNameLine);
         if (skill == null) return true;
 
         // Attempt unlock (SkillManager handles all validation including dynamic pricing)
@@ -514,18 +514,6 @@ public class SkillTreeGUI {
         return true;
     }
 
-    /**
-     * Find skill by display name
-     */
-    private Skill findSkillByDisplayName(String displayName) {
-        for (Skill skill : Skill.values()) {
-            if (skill.getDisplayName().equals(displayName)) {
-                return skill;
-            }
-        }
-        return null;
-    }
-
     /**
      * Get which tree is being viewed from inventory
      */
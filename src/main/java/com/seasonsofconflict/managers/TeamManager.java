@@ -237,12 +237,7 @@ public class TeamManager {
         if (team == null || team.isEliminated()) return;
 
         // Count alive players on this team
-        int aliveCount = 0;
-        for (PlayerData playerData : plugin.getGameManager().getAllPlayerData().values()) {
-            if (playerData.getTeamId() == teamId && playerData.isAlive()) {
-                aliveCount++;
-            }
-        }
+        int aliveCount = plugin.getGameManager().countTeamPlayers(teamId, true);
 
         // If no alive players, eliminate the team
         if (aliveCount == 0) {
@@ -256,6 +251,8 @@ public class TeamManager {
     public void saveTeam(TeamData team) {
         if (team != null) {
             plugin.getDataManager().saveTeam(team);
+            // Points, territories or members changed - members' HUDs are stale
+            plugin.getHudManager().invalidateTeam(team.getTeamId());
         }
     }
 
@@ -292,26 +289,14 @@ public class TeamManager {
      * Get number of players on a team
      */
     public int getTeamPlayerCount(int teamId) {
-        int count = 0;
-        for (PlayerData playerData : plugin.getGameManager().getAllPlayerData().values()) {
-            if (playerData.getTeamId() == teamId) {
-                count++;
-            }
-        }
-        return count;
+        return plugin.getGameManager().countTeamPlayers(teamId, false);
     }
 
     /**
      * Get number of alive players on a team
      */
     public int getTeamAliveCount(int teamId) {
-        int count = 0;
-        for (PlayerData playerData : plugin.getGameManager().getAllPlayerData().values()) {
-            if (playerData.getTeamId() == teamId && playerData.isAlive()) {
-                count++;
-            }
-        }
-        return count;
+        return plugin.getGameManager().countTeamPlayers(teamId, true);
     }
 
     /**
@@ -0,0 +1,164 @@
+package com.seasonsofconflict.managers;
+
+import com.seasonsofconflict.models.TerritoryData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chunk-granular lookup table for territory resolution.
+ *
+ * A dense int grid covers the chunk bounding box of all territories. Each cell holds the
+ * id of the territory that fully covers the chunk, NONE if no territory touches it, or
+ * MIXED if the chunk straddles a boundary - those chunks keep a short candidate list
+ * that is checked block by block. Lookups are O(1) for all but the boundary chunks.
+ */
+public class TerritoryIndex {
+
+    private static final int NONE = 0;
+    private static final int MIXED = -1;
+
+    // Above this many chunks the grid is not built and lookups scan every territory
+    private static final long MAX_CELLS = 4_000_000L;
+
+    private final Map<Integer, TerritoryData> territories;
+    private final Map<Long, TerritoryData[]> boundaryChunks;
+    private final Collection<TerritoryData> all;
+    private int[] cells;
+    private int minChunkX;
+    private int minChunkZ;
+    private int width;
+    private int depth;
+
+    public TerritoryIndex(Collection<TerritoryData> territories) {
+        this.territories = new HashMap<>();
+        this.boundaryChunks = new HashMap<>();
+        this.all = new ArrayList<>(territories);
+        for (TerritoryData territory : territories) {
+            this.territories.put(territory.getTerritoryId(), territory);
+        }
+        build();
+    }
+
+    private void build() {
+        if (all.isEmpty()) return;
+
+        int maxChunkX = Integer.MIN_VALUE;
+        int maxChunkZ = Integer.MIN_VALUE;
+        minChunkX = Integer.MAX_VALUE;
+        minChunkZ = Integer.MAX_VALUE;
+        for (TerritoryData territory : all) {
+            minChunkX = Math.min(minChunkX, territory.getMinX() >> 4);
+            minChunkZ = Math.min(minChunkZ, territory.getMinZ() >> 4);
+            maxChunkX = Math.max(maxChunkX, territory.getMaxX() >> 4);
+            maxChunkZ = Math.max(maxChunkZ, territory.getMaxZ() >> 4);
+        }
+
+        long cellCount = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (cellCount > MAX_CELLS) return;
+
+        width = maxChunkX - minChunkX + 1;
+        depth = maxChunkZ - minChunkZ + 1;
+        cells = new int[width * depth];
+
+        Map<Long, List<TerritoryData>> candidates = new HashMap<>();
+        for (TerritoryData territory : all) {
+            for (int cx = territory.getMinX() >> 4; cx <= territory.getMaxX() >> 4; cx++) {
+                for (int cz = territory.getMinZ() >> 4; cz <= territory.getMaxZ() >> 4; cz++) {
+                    int cell = (cx - minChunkX) * depth + (cz - minChunkZ);
+                    boolean covers = coversChunk(territory, cx, cz);
+
+                    if (cells[cell] == NONE && covers) {
+                        cells[cell] = territory.getTerritoryId();
+                    } else {
+                        // Partial coverage or overlapping territories: resolve per block
+                        if (cells[cell] > NONE) {
+                            candidates.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>())
+                                      .add(territories.get(cells[cell]));
+                        }
+                        cells[cell] = MIXED;
+                        candidates.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>()).add(territory);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<Long, List<TerritoryData>> entry : candidates.entrySet()) {
+            boundaryChunks.put(entry.getKey(), entry.getValue().toArray(new TerritoryData[0]));
+        }
+    }
+
+    private static boolean coversChunk(TerritoryData territory, int chunkX, int chunkZ) {
+        int blockX = chunkX << 4;
+        int blockZ = chunkZ << 4;
+        return territory.getMinX() <= blockX && territory.getMaxX() >= blockX + 15 &&
+               territory.getMinZ() <= blockZ && territory.getMaxZ() >= blockZ + 15;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the territory containing a block position (null if none)
+     */
+    public TerritoryData getTerritoryAt(int blockX, int blockZ) {
+        if (cells == null) {
+            return scan(all, blockX, blockZ);
+        }
+
+        int chunkX = blockX >> 4;
+        int chunkZ = blockZ >> 4;
+        int gx = chunkX - minChunkX;
+        int gz = chunkZ - minChunkZ;
+        if (gx < 0 || gz < 0 || gx >= width || gz >= depth) {
+            return null;
+        }
+
+        int value = cells[gx * depth + gz];
+        if (value == NONE) {
+            return null;
+        }
+        if (value == MIXED) {
+            TerritoryData[] candidates = boundaryChunks.get(chunkKey(chunkX, chunkZ));
+            for (TerritoryData territory : candidates) {
+                if (contains(territory, blockX, blockZ)) {
+                    return territory;
+                }
+            }
+            return null;
+        }
+        return territories.get(value);
+    }
+
+    private static TerritoryData scan(Collection<TerritoryData> territories, int blockX, int blockZ) {
+        for (TerritoryData territory : territories) {
+            if (contains(territory, blockX, blockZ)) {
+                return territory;
+            }
+        }
+        return null;
+    }
+
+    private static boolean contains(TerritoryData territory, int blockX, int blockZ) {
+        return blockX >= territory.getMinX() && blockX <= territory.getMaxX() &&
+               blockZ >= territory.getMinZ() && blockZ <= territory.getMaxZ();
+    }
+
+    /**
+     * Number of chunks that need a per-block check
+     */
+    public int getBoundaryChunkCount() {
+        return boundaryChunks.size();
+    }
+
+    /**
+     * Number of chunk cells in the grid (0 if lookups fall back to scanning)
+     */
+    public int getCellCount() {
+        return cells != null ? cells.length : 0;
+    }
+}
@@ -2,6 +2,7 @@ package com.seasonsofconflict.managers;
 
 import com.seasonsofconflict.SeasonsOfConflict;
 import com.seasonsofconflict.models.BonusType;
+import com.seasonsofconflict.models.PlayerData;
 import com.seasonsofconflict.models.Season;
 import com.seasonsofconflict.models.TeamData;
 import com.seasonsofconflict.models.TerritoryData;
@@ -20,6 +21,7 @@ public class TerritoryManager {
 
     private final SeasonsOfConflict plugin;
     private final Map<Integer, TerritoryData> territories;
+    private TerritoryIndex territoryIndex;
 
     /**
      * Seasonal modifier table [territoryId][seasonOrdinal]
@@ -40,6 +42,7 @@ public class TerritoryManager {
     public TerritoryManager(SeasonsOfConflict plugin) {
         this.plugin = plugin;
         this.territories = new HashMap<>();
+        this.territoryIndex = new TerritoryIndex(List.of());
     }
 
     /**
@@ -53,17 +56,31 @@ public class TerritoryManager {
             // Initialize territories from config only
             initializeTerritoriesFromConfig();
         } else {
-            // Load existing territories
+            // Load existing territories (state matches the database)
             for (TerritoryData territory : loadedTerritories) {
+                territory.markClean();
                 territories.put(territory.getTerritoryId(), territory);
             }
             plugin.getLogger().info("Loaded " + territories.size() + " territories from database");
         }
 
+        // Build the chunk lookup table for location queries
+        rebuildIndex();
+
         // Initialize beacon blocks
         initializeBeacons();
     }
 
+    /**
+     * Rebuild the chunk lookup table from current territory bounds
+     */
+    public void rebuildIndex() {
+        territoryIndex = new TerritoryIndex(territories.values());
+        plugin.getLogger().info("Indexed " + territories.size() + " territories over " +
+                                territoryIndex.getCellCount() + " chunks (" +
+                                territoryIndex.getBoundaryChunkCount() + " boundary chunks)");
+    }
+
     /**
      * Initialize territories from config.yml (first time setup)
      */
@@ -99,7 +116,7 @@ public class TerritoryManager {
             territories.put(territoryId, territory);
 
             // Save to database
-            plugin.getDataManager().saveTerritory(territory);
+            saveTerritory(territory);
         }
         plugin.getLogger().info("Initialized " + territories.size() + " territories from config");
     }
@@ -110,12 +127,37 @@ public class TerritoryManager {
     public TerritoryData getTerritoryAt(Location location) {
         if (location == null) return null;
 
-        for (TerritoryData territory : territories.values()) {
-            if (territory.isInTerritory(location)) {
-                return territory;
-            }
+        return territoryIndex.getTerritoryAt(location.getBlockX(), location.getBlockZ());
+    }
+
+    /**
+     * Get the territory a player is in, from the membership cached on their PlayerData.
+     * The cache is kept current by movement, teleport, respawn, world change and join events.
+     */
+    public TerritoryData getPlayerTerritory(Player player) {
+        if (player == null) return null;
+
+        int territoryId = plugin.getGameManager().getPlayerData(player).getCurrentTerritoryId();
+        return territoryId != 0 ? territories.get(territoryId) : null;
+    }
+
+    /**
+     * Recompute a player's cached territory membership for a new location
+     * @return The territory entered, or null if the player stayed put or left all territories
+     */
+    public TerritoryData updatePlayerTerritory(Player player, Location location) {
+        PlayerData data = plugin.getGameManager().getPlayerData(player);
+
+        TerritoryData territory = getTerritoryAt(location);
+        int territoryId = territory != null ? territory.getTerritoryId() : 0;
+        if (territoryId == data.getCurrentTerritoryId()) {
+            return null;
         }
-        return null;
+
+        data.setCurrentTerritoryId(territoryId);
+        data.setLastTerritoryEnterTime(System.currentTimeMillis());
+        plugin.getHudManager().invalidate(player);
+        return territory;
     }
 
     /**
@@ -141,7 +183,7 @@ public class TerritoryManager {
     public double getTerritoryBonus(Player player, BonusType bonusType) {
         if (player == null || bonusType == null) return 1.0;
 
-        TerritoryData territory = getTerritoryAt(player.getLocation());
+        TerritoryData territory = getPlayerTerritory(player);
         if (territory == null) return 1.0;
 
         // Check if territory's bonus type matches what we're looking for
@@ -181,7 +223,7 @@ public class TerritoryManager {
      * Initialize beacon blocks at each territory (indestructible)
      */
     public void initializeBeacons() {
-        String worldName = plugin.getConfig().getString("game.world_name", "world");
+        String worldName = plugin.getSettings().getWorldName();
         World world = Bukkit.getWorld(worldName);
 
         if (world == null) {
@@ -211,7 +253,7 @@ public class TerritoryManager {
     public void updateBeaconVisual(TerritoryData territory) {
         if (territory == null) return;
 
-        String worldName = plugin.getConfig().getString("game.world_name", "world");
+        String worldName = plugin.getSettings().getWorldName();
         World world = Bukkit.getWorld(worldName);
         if (world == null) return;
 
@@ -291,7 +333,7 @@ public class TerritoryManager {
                 plugin.getTeamManager().saveTeam(previousTeam);
 
                 // Steal quest points
-                int pointStealPercent = plugin.getConfig().getInt("capture.point_steal_percent", 25);
+                int pointStealPercent = plugin.getSettings().getCapturePointStealPercent();
                 int pointsStolen = (previousTeam.getQuestPoints() * pointStealPercent) / 100;
                 previousTeam.subtractPoints(pointsStolen);
                 capturingTeam.addPoints(pointsStolen);
@@ -301,7 +343,7 @@ public class TerritoryManager {
         capturingTeam.addControlledTerritory(territory.getTerritoryId());
 
         // Award quest points
-        int pointReward = plugin.getConfig().getInt("capture.point_reward", 100);
+        int pointReward = plugin.getSettings().getCapturePointReward();
         capturingTeam.addPoints(pointReward);
         plugin.getTeamManager().saveTeam(capturingTeam);
 
@@ -310,6 +352,7 @@ public class TerritoryManager {
 
         // Save territory
         saveTerritory(territory);
+        plugin.getHudManager().invalidateTerritory(territory.getTerritoryId());
 
         // Broadcast capture
         String message = plugin.getConfig().getString("messages.territory_captured",
@@ -330,6 +373,7 @@ public class TerritoryManager {
     public void saveTerritory(TerritoryData territory) {
         if (territory != null) {
             plugin.getDataManager().saveTerritory(territory);
+            territory.markClean();
         }
     }
 
@@ -343,54 +387,30 @@ public class TerritoryManager {
     }
 
     /**
-     * Get territories owned by a team
+     * Save only territories whose capture state changed since their last save
+     * @return Number of territories saved
      */
-    public List<TerritoryData> getTeamTerritories(int teamId) {
-        List<TerritoryData> teamTerritories = new ArrayList<>();
+    public int checkpointTerritories() {
+        int saved = 0;
         for (TerritoryData territory : territories.values()) {
-            if (territory.getOwnerTeamId() == teamId) {
-                teamTerritories.add(territory);
+            if (territory.isDirty()) {
+                saveTerritory(territory);
+                saved++;
             }
         }
-        return teamTerritories;
+        return saved;
     }
 
     /**
-     * Check if player is within capture radius of a beacon
-     */
-    public boolean isInCaptureRadius(Player player, TerritoryData territory) {
-        if (player == null || territory == null) return false;
-
-        double captureRadius = plugin.getConfig().getDouble("capture.radius", 10.0);
-        double distance = territory.getDistanceToBeacon(player.getLocation());
-        return distance <= captureRadius;
-    }
-
-    /**
-     * Check if any enemy player is within defense radius of a beacon
+     * Get territories owned by a team
      */
-    public boolean hasEnemyInDefenseRadius(TerritoryData territory, int attackingTeamId) {
-        if (territory == null) return false;
-
-        double defenseRadius = plugin.getConfig().getDouble("capture.defense_radius", 50.0);
-        String worldName = plugin.getConfig().getString("game.world_name", "world");
-        Location beaconLoc = territory.getBeaconLocation(worldName);
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            TeamData playerTeam = plugin.getTeamManager().getTeam(player);
-            if (playerTeam == null) continue;
-
-            // Check if player is on a different team than the attacker
-            if (playerTeam.getTeamId() != attackingTeamId) {
-                if (player.getWorld().getName().equals(worldName)) {
-                    double distance = player.getLocation().distance(beaconLoc);
-                    if (distance <= defenseRadius) {
-                        return true;
-                    }
-                }
+    public List<TerritoryData> getTeamTerritories(int teamId) {
+        List<TerritoryData> teamTerritories = new ArrayList<>();
+        for (TerritoryData territory : territories.values()) {
+            if (territory.getOwnerTeamId() == teamId) {
+                teamTerritories.add(territory);
             }
         }
-
-        return false;
+        return teamTerritories;
     }
 }
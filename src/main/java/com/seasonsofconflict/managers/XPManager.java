@@ -1,10 +1,12 @@
 package com.seasonsofconflict.managers;
 
 import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.data.ConnectionPool;
 import org.bukkit.entity.Player;
 
 import java.sql.*;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -85,7 +87,7 @@ public class XPManager {
         double multiplier = xpData.getXPMultiplier();
 
         // Check for territory bonus
-        if (plugin.getConfig().getBoolean("skills.enabled", true)) {
+        if (plugin.getSettings().isSkillsEnabled()) {
             double territoryBonus = plugin.getTerritoryManager().getTerritoryBonus(player,
                 com.seasonsofconflict.models.BonusType.XP);
             multiplier *= territoryBonus; // Apply territory multiplier
@@ -151,15 +153,27 @@ public class XPManager {
      * Load player XP data from database
      */
     private PlayerXPData loadPlayerXP(UUID playerUUID) {
-        String sql = "SELECT * FROM player_xp WHERE player_uuid = ?";
+        // Pooled read-only connection - safe off the main thread
+        try (ConnectionPool.PooledReader reader = plugin.getDataManager().borrowReader()) {
+            return loadPlayerXP(playerUUID, reader);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to load XP for player " + playerUUID + ": " + e.getMessage());
+        }
 
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        return null;
+    }
 
-            pstmt.setString(1, playerUUID.toString());
-            ResultSet rs = pstmt.executeQuery();
+    /**
+     * Load player XP data using an already borrowed reader (null if no row)
+     */
+    public PlayerXPData loadPlayerXP(UUID playerUUID, ConnectionPool.PooledReader reader) throws SQLException {
+        String sql = "SELECT * FROM player_xp WHERE player_uuid = ?";
+        plugin.getDataManager().getWriteQueue().flushIfPending(xpKey(playerUUID));
+
+        PreparedStatement pstmt = reader.prepare(sql);
+        pstmt.setString(1, playerUUID.toString());
 
+        try (ResultSet rs = pstmt.executeQuery()) {
             if (rs.next()) {
                 PlayerXPData data = new PlayerXPData(playerUUID);
                 data.setTotalXP(rs.getInt("total_xp"));
@@ -167,45 +181,60 @@ public class XPManager {
                 data.setXPMultiplier(rs.getDouble("xp_multiplier"));
                 return data;
             }
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to load XP for player " + playerUUID + ": " + e.getMessage());
         }
-
         return null;
     }
 
     /**
-     * Save player XP data to database
+     * Install XP data that was preloaded off the main thread.
+     * Ignored if the player is already cached; a missing row creates a fresh record.
      */
-    public void savePlayerXP(PlayerXPData xpData) {
-        String sql = """
-            INSERT OR REPLACE INTO player_xp
-            (player_uuid, total_xp, current_xp, xp_multiplier)
-            VALUES (?, ?, ?, ?)
-            """;
-
-        // Get shared connection - don't close it!
-        Connection conn = plugin.getDataManager().getConnection();
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, xpData.getPlayerUUID().toString());
-            pstmt.setInt(2, xpData.getTotalXP());
-            pstmt.setInt(3, xpData.getCurrentXP());
-            pstmt.setDouble(4, xpData.getXPMultiplier());
-            pstmt.executeUpdate();
+    public void installPlayerXP(UUID playerUUID, PlayerXPData data) {
+        if (xpCache.containsKey(playerUUID)) return;
 
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save XP for player " + xpData.getPlayerUUID() + ": " + e.getMessage());
+        if (data == null) {
+            data = new PlayerXPData(playerUUID);
+            savePlayerXP(data);
         }
+        xpCache.put(playerUUID, data);
+    }
+
+    private static final String SAVE_XP_SQL = """
+        INSERT OR REPLACE INTO player_xp
+        (player_uuid, total_xp, current_xp, xp_multiplier)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    /**
+     * Queue player XP data for the database writer
+     */
+    public void savePlayerXP(PlayerXPData xpData) {
+        plugin.getDataManager().getWriteQueue().enqueue(xpKey(xpData.getPlayerUUID()), SAVE_XP_SQL,
+            xpParams(xpData));
+    }
+
+    private Object[] xpParams(PlayerXPData xpData) {
+        return new Object[] {
+            xpData.getPlayerUUID().toString(),
+            xpData.getTotalXP(),
+            xpData.getCurrentXP(),
+            xpData.getXPMultiplier()
+        };
+    }
+
+    private static String xpKey(UUID playerUUID) {
+        return "player_xp:" + playerUUID;
     }
 
     /**
      * Save all cached XP data
      */
     public void saveAll() {
+        Map<String, Object[]> rows = new LinkedHashMap<>();
         for (PlayerXPData xpData : xpCache.values()) {
-            savePlayerXP(xpData);
+            rows.put(xpKey(xpData.getPlayerUUID()), xpParams(xpData));
         }
+        plugin.getDataManager().saveBatch(SAVE_XP_SQL, rows);
     }
 
     /**
@@ -0,0 +1,170 @@
+package com.seasonsofconflict.models;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.EntityType;
+
+import java.util.logging.Logger;
+
+/**
+ * Immutable, typed view of the config values read on hot paths.
+ *
+ * Built once on enable and replaced as a whole on /soc reload, so event handlers and
+ * tasks read plain fields instead of doing YAML path lookups. Radii are also stored
+ * squared for distance comparisons without a square root, and XP rewards are resolved
+ * into per-Material and per-EntityType tables.
+ */
+public final class ConfigSnapshot {
+
+    private final String worldName;
+
+    // Capture
+    private final double captureRadius;
+    private final double captureRadiusSquared;
+    private final double defenseRadius;
+    private final double defenseRadiusSquared;
+    private final double notifyRadius;
+    private final int captureMinPlayers;
+    private final int captureTimeSeconds;
+    private final int captureDecayRate;
+    private final int captureCheckpointSeconds;
+    private final int capturePointReward;
+    private final int capturePointStealPercent;
+
+    // HUD
+    private final int hudFallbackRefreshSeconds;
+
+    // Daily reset
+    private final int dailyResetPlayersPerTick;
+
+    // Skill XP
+    private final boolean skillsEnabled;
+    private final int areaBreakBlocksPerTick;
+    private final int playerKillXP;
+    private final XPSourceTable<Material> gatheringXP;
+    private final XPSourceTable<EntityType> mobKillXP;
+
+    private ConfigSnapshot(FileConfiguration config, Logger logger) {
+        this.worldName = config.getString("game.world_name", "world");
+
+        this.captureRadius = config.getDouble("capture.radius", 10.0);
+        this.captureRadiusSquared = captureRadius * captureRadius;
+        this.defenseRadius = config.getDouble("capture.defense_radius", 50.0);
+        this.defenseRadiusSquared = defenseRadius * defenseRadius;
+        this.notifyRadius = config.getDouble("capture.notify_radius", 100.0);
+        this.captureMinPlayers = config.getInt("capture.min_players", 3);
+        this.captureTimeSeconds = config.getInt("capture.time_seconds", 300);
+        this.captureDecayRate = config.getInt("capture.decay_rate", 2);
+        this.captureCheckpointSeconds = config.getInt("capture.checkpoint_seconds", 30);
+        this.capturePointReward = config.getInt("capture.point_reward", 100);
+        this.capturePointStealPercent = config.getInt("capture.point_steal_percent", 25);
+
+        this.hudFallbackRefreshSeconds = Math.max(1, config.getInt("hud.fallback_refresh_seconds", 30));
+
+        this.dailyResetPlayersPerTick = Math.max(1, config.getInt("quests.daily_reset.players_per_tick", 25));
+
+        this.skillsEnabled = config.getBoolean("skills.enabled", true);
+        this.areaBreakBlocksPerTick = Math.max(1, config.getInt("skills.area_break_blocks_per_tick", 16));
+        this.playerKillXP = config.getInt("skills.xp_sources.player_kill", 200);
+        this.gatheringXP = XPSourceTable.forBlocks(config.getConfigurationSection("skills.xp_sources.gathering"), logger);
+        this.mobKillXP = XPSourceTable.forMobs(config.getConfigurationSection("skills.xp_sources.mob_kill"), logger);
+    }
+
+    /**
+     * Read a snapshot from the current config
+     * @param logger Receives warnings for XP sources that match nothing
+     */
+    public static ConfigSnapshot load(FileConfiguration config, Logger logger) {
+        return new ConfigSnapshot(config, logger);
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public double getCaptureRadius() {
+        return captureRadius;
+    }
+
+    public double getCaptureRadiusSquared() {
+        return captureRadiusSquared;
+    }
+
+    public double getDefenseRadius() {
+        return defenseRadius;
+    }
+
+    public double getDefenseRadiusSquared() {
+        return defenseRadiusSquared;
+    }
+
+    public double getNotifyRadius() {
+        return notifyRadius;
+    }
+
+    public int getCaptureMinPlayers() {
+        return captureMinPlayers;
+    }
+
+    public int getCaptureTimeSeconds() {
+        return captureTimeSeconds;
+    }
+
+    public int getCaptureDecayRate() {
+        return captureDecayRate;
+    }
+
+    public int getCaptureCheckpointSeconds() {
+        return captureCheckpointSeconds;
+    }
+
+    public int getCapturePointReward() {
+        return capturePointReward;
+    }
+
+    public int getCapturePointStealPercent() {
+        return capturePointStealPercent;
+    }
+
+    public int getHudFallbackRefreshSeconds() {
+        return hudFallbackRefreshSeconds;
+    }
+
+    public boolean isSkillsEnabled() {
+        return skillsEnabled;
+    }
+
+    public int getDailyResetPlayersPerTick() {
+        return dailyResetPlayersPerTick;
+    }
+
+    public int getAreaBreakBlocksPerTick() {
+        return areaBreakBlocksPerTick;
+    }
+
+    public int getPlayerKillXP() {
+        return playerKillXP;
+    }
+
+    /**
+     * XP for breaking a block (0 if it gives none)
+     */
+    public int getGatheringXP(Material material) {
+        return gatheringXP.get(material);
+    }
+
+    /**
+     * XP for killing a mob (0 if it gives none)
+     */
+    public int getMobKillXP(EntityType type) {
+        return mobKillXP.get(type);
+    }
+
+    public XPSourceTable<Material> getGatheringXPTable() {
+        return gatheringXP;
+    }
+
+    public XPSourceTable<EntityType> getMobKillXPTable() {
+        return mobKillXP;
+    }
+}
@@ -24,8 +24,9 @@ public class PlayerData {
     private final Map<UUID, Long> killCooldowns; // UUID -> timestamp
     private long lastCombatTime;
 
-    // Quests
+    // Quests, plus the same quests indexed by progress key ordinal (null = none)
     private final List<PlayerQuest> activeQuests;
+    private final PlayerQuest[][] questsByKey;
 
     // Territory tracking
     private int currentTerritoryId;
@@ -47,6 +48,7 @@ public class PlayerData {
         this.killCooldowns = new HashMap<>();
         this.lastCombatTime = 0;
         this.activeQuests = new ArrayList<>();
+        this.questsByKey = new PlayerQuest[QuestProgressKey.COUNT][];
         this.currentTerritoryId = 0;
         this.lastTerritoryEnterTime = 0;
     }
@@ -208,15 +210,33 @@ public class PlayerData {
     }
 
     public List<PlayerQuest> getActiveQuests() {
-        return activeQuests;
+        return Collections.unmodifiableList(activeQuests);
+    }
+
+    /**
+     * Get the active quests counting a progress key, or null if there are none
+     */
+    public PlayerQuest[] getQuestsFor(QuestProgressKey key) {
+        return questsByKey[key.ordinal()];
     }
 
     public void addQuest(PlayerQuest quest) {
         this.activeQuests.add(quest);
+
+        int index = quest.getProgressKeyId().ordinal();
+        PlayerQuest[] quests = questsByKey[index];
+        if (quests == null) {
+            questsByKey[index] = new PlayerQuest[]{quest};
+        } else {
+            quests = Arrays.copyOf(quests, quests.length + 1);
+            quests[quests.length - 1] = quest;
+            questsByKey[index] = quests;
+        }
     }
 
     public void clearDailyQuests() {
         this.activeQuests.clear();
+        Arrays.fill(questsByKey, null);
     }
 
     public int getCurrentTerritoryId() {
@@ -31,6 +31,10 @@ public class PlayerQuest {
         return template.getProgressKey();
     }
 
+    public QuestProgressKey getProgressKeyId() {
+        return template.getProgressKeyId();
+    }
+
     public int getTargetAmount() {
         return template.getTargetAmount();
     }
@@ -15,6 +15,9 @@ public class PlayerSkills {
     // Changed to support multiple skills per tier with dynamic pricing
     private final Map<SkillTree, Map<SkillTier, List<String>>> unlockedSkills;
 
+    // Bit per Skill ordinal, kept in sync with unlockedSkills for effect checks
+    private long unlockedMask;
+
     // Ultimate count (max 2)
     private int ultimateCount;
     private long lastResetTime;
@@ -38,6 +41,12 @@ public class PlayerSkills {
         }
     }
 
+    static {
+        if (Skill.values().length > Long.SIZE) {
+            throw new IllegalStateException("Skill mask holds at most " + Long.SIZE + " skills");
+        }
+    }
+
     // Getters and setters
     public UUID getPlayerUUID() {
         return playerUUID;
@@ -122,6 +131,13 @@ public class PlayerSkills {
         return skills != null && skills.contains(skillName);
     }
 
+    /**
+     * Check if a specific skill is unlocked (bit test, used by effect checks)
+     */
+    public boolean hasSkill(Skill skill) {
+        return (unlockedMask & (1L << skill.ordinal())) != 0;
+    }
+
     /**
      * Get the first unlocked skill name for a tree/tier (for backwards compatibility)
      */
@@ -166,6 +182,7 @@ public class PlayerSkills {
             if (tier.isUltimate()) {
                 incrementUltimateCount();
             }
+            rebuildMask();
         }
     }
 
@@ -179,6 +196,7 @@ public class PlayerSkills {
             if (tier.isUltimate()) {
                 incrementUltimateCount();
             }
+            rebuildMask();
         }
     }
 
@@ -187,8 +205,11 @@ public class PlayerSkills {
      */
     public void removeSkill(SkillTree tree, SkillTier tier, String skillName) {
         List<String> skills = unlockedSkills.get(tree).get(tier);
-        if (skills.remove(skillName) && tier.isUltimate()) {
-            decrementUltimateCount();
+        if (skills.remove(skillName)) {
+            if (tier.isUltimate()) {
+                decrementUltimateCount();
+            }
+            rebuildMask();
         }
     }
 
@@ -203,6 +224,7 @@ public class PlayerSkills {
             ultimateCount -= count;
             if (ultimateCount < 0) ultimateCount = 0;
         }
+        rebuildMask();
     }
 
     /**
@@ -286,6 +308,25 @@ public class PlayerSkills {
         // Refund points
         skillPointsAvailable += refundPoints;
         skillPointsSpent -= refundPoints;
+        rebuildMask();
+    }
+
+    /**
+     * Recompute the skill mask from the unlocked skill names
+     */
+    private void rebuildMask() {
+        long mask = 0;
+        for (Map<SkillTier, List<String>> tierMap : unlockedSkills.values()) {
+            for (List<String> skills : tierMap.values()) {
+                for (String skillName : skills) {
+                    Skill skill = Skill.fromInternalName(skillName);
+                    if (skill != null) {
+                        mask |= 1L << skill.ordinal();
+                    }
+                }
+            }
+        }
+        unlockedMask = mask;
     }
 
     /**
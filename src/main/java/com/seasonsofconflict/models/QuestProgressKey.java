@@ -0,0 +1,93 @@
+package com.seasonsofconflict.models;
+
+import org.bukkit.entity.EntityType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Things quest progress is counted in. Events report progress with one of these, and
+ * each player's active quests are indexed by its ordinal, so an event no quest cares
+ * about costs a single array lookup.
+ */
+public enum QuestProgressKey {
+    // Combat
+    ZOMBIE_KILLS("zombie_kills"),
+    SKELETON_KILLS("skeleton_kills"),
+    CREEPER_KILLS("creeper_kills"),
+    MOB_KILLS("mob_kills"),
+    PLAYER_KILLS("player_kills"),
+    ENEMY_TERRITORY_TIME("enemy_territory_time"),
+
+    // Gathering
+    IRON_MINED("iron_mined"),
+    COAL_MINED("coal_mined"),
+    WHEAT_HARVESTED("wheat_harvested"),
+    FISH_CAUGHT("fish_caught"),
+    LOGS_CHOPPED("logs_chopped"),
+
+    // Exploration
+    DISTANCE_TRAVELED("distance_traveled"),
+    TERRITORIES_VISITED("territories_visited"),
+    STRUCTURES_FOUND("structures_found"),
+
+    // Survival
+    SURVIVAL_TIME("survival_time"),
+    FOOD_VARIETY("food_variety"),
+    NIGHTS_OUTDOORS("nights_outdoors"),
+
+    // Team
+    TERRITORY_CONTROL_DAYS("territory_control_days"),
+    CAPTURES("captures"),
+    TEAM_KILLS("team_kills"),
+    TEAM_SURVIVAL_DAYS("team_survival_days"),
+    BLOCKS_PLACED("blocks_placed");
+
+    public static final int COUNT = values().length;
+
+    private final String key;
+
+    private static final Map<String, QuestProgressKey> BY_KEY;
+    private static final Map<EntityType, QuestProgressKey> BY_KILLED_TYPE;
+
+    static {
+        Map<String, QuestProgressKey> byKey = new HashMap<>();
+        for (QuestProgressKey progressKey : values()) {
+            byKey.put(progressKey.key, progressKey);
+        }
+        BY_KEY = Map.copyOf(byKey);
+
+        // "<mob>_kills" keys, resolved once per entity type
+        Map<EntityType, QuestProgressKey> byKilledType = new EnumMap<>(EntityType.class);
+        for (EntityType type : EntityType.values()) {
+            QuestProgressKey progressKey = byKey.get(type.name().toLowerCase() + "_kills");
+            if (progressKey != null) {
+                byKilledType.put(type, progressKey);
+            }
+        }
+        BY_KILLED_TYPE = byKilledType;
+    }
+
+    QuestProgressKey(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Get a progress key by its name (e.g. "iron_mined"), or null if unknown
+     */
+    public static QuestProgressKey fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key);
+    }
+
+    /**
+     * Get the kill-count key for a mob type, or null if no quest counts that mob
+     */
+    public static QuestProgressKey forKill(EntityType type) {
+        return BY_KILLED_TYPE.get(type);
+    }
+}
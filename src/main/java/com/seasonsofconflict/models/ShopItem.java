@@ -3,6 +3,9 @@ package com.seasonsofconflict.models;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public enum ShopItem {
     GOLDEN_APPLES("golden_apples", "Golden Apple x2", 150,
                   new String[]{"golden_apples", "apples", "gapples"}),
@@ -16,6 +19,20 @@ public enum ShopItem {
     private final int cost;
     private final String[] aliases;
 
+    // ID and alias -> item, built once when the enum is initialized
+    private static final Map<String, ShopItem> BY_NAME;
+
+    static {
+        Map<String, ShopItem> byName = new HashMap<>();
+        for (ShopItem item : values()) {
+            byName.put(item.id, item);
+            for (String alias : item.aliases) {
+                byName.putIfAbsent(alias, item);
+            }
+        }
+        BY_NAME = Map.copyOf(byName);
+    }
+
     ShopItem(String id, String displayName, int cost, String[] aliases) {
         this.id = id;
         this.displayName = displayName;
@@ -32,15 +49,7 @@ public enum ShopItem {
      */
     public static ShopItem fromString(String input) {
         if (input == null) return null;
-        String lower = input.toLowerCase();
-
-        for (ShopItem item : values()) {
-            if (item.id.equals(lower)) return item;
-            for (String alias : item.aliases) {
-                if (alias.equals(lower)) return item;
-            }
-        }
-        return null;
+        return BY_NAME.get(input.toLowerCase());
     }
 
     /**
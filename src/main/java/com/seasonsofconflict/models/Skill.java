@@ -2,6 +2,11 @@ package com.seasonsofconflict.models;
 
 import org.bukkit.Material;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines all 60 skills across 4 skill trees
  * Each skill has a name, description, tree, tier, and effect type
@@ -533,6 +538,47 @@ public enum Skill {
     private final SkillType type;
     private final Material icon;  // For GUI display
 
+    // Name indexes, built once when the enum is initialized
+    private static final Map<String, Skill> BY_INTERNAL_NAME;
+    private static final Map<String, Skill> BY_DISPLAY_NAME;
+    private static final Map<String, Skill> BY_ANY_NAME;  // lower-case internal or enum name
+
+    // Tree and tier groupings, in declaration order (shared arrays; do not modify)
+    private static final Map<SkillTree, Skill[]> BY_TREE;
+    private static final Map<SkillTree, Map<SkillTier, Skill[]>> BY_TREE_AND_TIER;
+    private static final Skill[] NONE = new Skill[0];
+
+    static {
+        Map<String, Skill> byInternalName = new HashMap<>();
+        Map<String, Skill> byDisplayName = new HashMap<>();
+        Map<String, Skill> byAnyName = new HashMap<>();
+        for (Skill skill : values()) {
+            byInternalName.put(skill.internalName, skill);
+            byDisplayName.put(skill.displayName, skill);
+            byAnyName.put(skill.internalName.toLowerCase(Locale.ROOT), skill);
+            byAnyName.put(skill.name().toLowerCase(Locale.ROOT), skill);
+        }
+        BY_INTERNAL_NAME = Map.copyOf(byInternalName);
+        BY_DISPLAY_NAME = Map.copyOf(byDisplayName);
+        BY_ANY_NAME = Map.copyOf(byAnyName);
+
+        BY_TREE = new EnumMap<>(SkillTree.class);
+        BY_TREE_AND_TIER = new EnumMap<>(SkillTree.class);
+        for (SkillTree tree : SkillTree.values()) {
+            BY_TREE.put(tree, java.util.Arrays.stream(values())
+                .filter(skill -> skill.tree == tree)
+                .toArray(Skill[]::new));
+
+            Map<SkillTier, Skill[]> byTier = new EnumMap<>(SkillTier.class);
+            for (SkillTier tier : SkillTier.values()) {
+                byTier.put(tier, java.util.Arrays.stream(values())
+                    .filter(skill -> skill.tree == tree && skill.tier == tier)
+                    .toArray(Skill[]::new));
+            }
+            BY_TREE_AND_TIER.put(tree, byTier);
+        }
+    }
+
     Skill(String displayName, String internalName, String description,
           SkillTree tree, SkillTier tier, SkillType type, Material icon) {
         this.displayName = displayName;
@@ -577,29 +623,34 @@ public enum Skill {
      * Get skill by internal name (from database)
      */
     public static Skill fromInternalName(String internalName) {
-        for (Skill skill : values()) {
-            if (skill.getInternalName().equals(internalName)) {
-                return skill;
-            }
-        }
-        return null;
+        return internalName != null ? BY_INTERNAL_NAME.get(internalName) : null;
+    }
+
+    /**
+     * Get skill by display name (as shown in GUI lore)
+     */
+    public static Skill fromDisplayName(String displayName) {
+        return displayName != null ? BY_DISPLAY_NAME.get(displayName) : null;
+    }
+
+    /**
+     * Get skill by internal name or enum name, ignoring case (for command input)
+     */
+    public static Skill fromName(String name) {
+        return name != null ? BY_ANY_NAME.get(name.toLowerCase(Locale.ROOT)) : null;
     }
 
     /**
-     * Get all skills in a specific tree
+     * Get all skills in a specific tree (shared array; do not modify)
      */
     public static Skill[] getSkillsInTree(SkillTree tree) {
-        return java.util.Arrays.stream(values())
-            .filter(skill -> skill.getTree() == tree)
-            .toArray(Skill[]::new);
+        return tree != null ? BY_TREE.get(tree) : NONE;
     }
 
     /**
-     * Get all skills in a specific tier of a tree
+     * Get all skills in a specific tier of a tree (shared array; do not modify)
      */
     public static Skill[] getSkillsInTier(SkillTree tree, SkillTier tier) {
-        return java.util.Arrays.stream(values())
-            .filter(skill -> skill.getTree() == tree && skill.getTier() == tier)
-            .toArray(Skill[]::new);
+        return tree != null && tier != null ? BY_TREE_AND_TIER.get(tree).get(tier) : NONE;
     }
 }
@@ -32,6 +32,9 @@ public class TerritoryData {
     private long shieldExpiryTime; // System.currentTimeMillis() when shield expires
     private long shieldCooldownExpiry; // System.currentTimeMillis() when cooldown expires
 
+    // Persistence (true when ownership or capture state changed since last save)
+    private boolean dirty;
+
     public TerritoryData(int territoryId, String name, int minX, int maxX, int minZ, int maxZ,
                          int beaconX, int beaconY, int beaconZ,
                          BonusType bonusType, int baseBonusPercent) {
@@ -51,6 +54,7 @@ public class TerritoryData {
         this.captureProgress = 0;
         this.shieldExpiryTime = 0;
         this.shieldCooldownExpiry = 0;
+        this.dirty = false;
     }
 
     public boolean isInTerritory(Location location) {
@@ -142,7 +146,10 @@ public class TerritoryData {
     }
 
     public void setOwnerTeamId(int ownerTeamId) {
-        this.ownerTeamId = ownerTeamId;
+        if (this.ownerTeamId != ownerTeamId) {
+            this.ownerTeamId = ownerTeamId;
+            this.dirty = true;
+        }
     }
 
     public int getCapturingTeamId() {
@@ -150,7 +157,10 @@ public class TerritoryData {
     }
 
     public void setCapturingTeamId(int capturingTeamId) {
-        this.capturingTeamId = capturingTeamId;
+        if (this.capturingTeamId != capturingTeamId) {
+            this.capturingTeamId = capturingTeamId;
+            this.dirty = true;
+        }
     }
 
     public int getCaptureProgress() {
@@ -158,7 +168,19 @@ public class TerritoryData {
     }
 
     public void setCaptureProgress(int captureProgress) {
-        this.captureProgress = Math.max(0, Math.min(300, captureProgress));
+        int clamped = Math.max(0, Math.min(300, captureProgress));
+        if (this.captureProgress != clamped) {
+            this.captureProgress = clamped;
+            this.dirty = true;
+        }
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void markClean() {
+        this.dirty = false;
     }
 
     public BonusType getBonusType() {
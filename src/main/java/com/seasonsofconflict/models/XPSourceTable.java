@@ -0,0 +1,188 @@
+package com.seasonsofconflict.models;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * XP rewards per Material or EntityType, loaded from a skills.xp_sources section.
+ *
+ * Keys may be an exact name (DIAMOND_ORE), a wildcard (*_LOG), a block tag (#logs) or one
+ * of the built-in lower-case group names (stone, coal, log, ...). Groups override wildcards
+ * and tags, and exact names override all of them, so a broad rule can be refined per
+ * block. Lookups are an EnumMap get, i.e. an array index by ordinal.
+ */
+public final class XPSourceTable<E extends Enum<E>> {
+
+    // Group names from the original config layout -> the names they cover
+    private static final Map<String, List<String>> BLOCK_GROUPS = Map.of(
+        "stone", List.of("STONE", "COBBLESTONE", "DEEPSLATE", "COBBLED_DEEPSLATE"),
+        "coal", List.of("COAL_ORE", "DEEPSLATE_COAL_ORE"),
+        "iron", List.of("IRON_ORE", "DEEPSLATE_IRON_ORE"),
+        "gold", List.of("GOLD_ORE", "DEEPSLATE_GOLD_ORE"),
+        "diamond", List.of("DIAMOND_ORE", "DEEPSLATE_DIAMOND_ORE"),
+        "log", List.of("OAK_LOG", "BIRCH_LOG", "SPRUCE_LOG", "JUNGLE_LOG", "ACACIA_LOG", "DARK_OAK_LOG", "MANGROVE_LOG"),
+        "wheat", List.of("WHEAT", "CARROTS", "POTATOES", "BEETROOTS")
+    );
+
+    // Rewards used when a key is missing from the config
+    private static final Map<String, Integer> BLOCK_DEFAULTS = Map.of(
+        "stone", 1, "coal", 2, "iron", 3, "gold", 5, "diamond", 10, "log", 2, "wheat", 1
+    );
+
+    private static final Map<String, Integer> MOB_DEFAULTS = Map.of(
+        "zombie", 10, "skeleton", 15, "creeper", 20, "spider", 12, "enderman", 50, "wither_skeleton", 100
+    );
+
+    private final Class<E> type;
+    private final EnumMap<E, Integer> rewards;
+
+    private XPSourceTable(Class<E> type) {
+        this.type = type;
+        this.rewards = new EnumMap<>(type);
+    }
+
+    /**
+     * Build the block-break table from skills.xp_sources.gathering
+     */
+    public static XPSourceTable<Material> forBlocks(ConfigurationSection section, Logger logger) {
+        XPSourceTable<Material> table = new XPSourceTable<>(Material.class);
+        table.load(section, BLOCK_GROUPS, BLOCK_DEFAULTS, logger);
+        return table;
+    }
+
+    /**
+     * Build the mob-kill table from skills.xp_sources.mob_kill
+     */
+    public static XPSourceTable<EntityType> forMobs(ConfigurationSection section, Logger logger) {
+        XPSourceTable<EntityType> table = new XPSourceTable<>(EntityType.class);
+        table.load(section, Map.of(), MOB_DEFAULTS, logger);
+        return table;
+    }
+
+    private void load(ConfigurationSection section, Map<String, List<String>> groups,
+                      Map<String, Integer> defaults, Logger logger) {
+        // Wildcards and tags first, then groups, then exact names on top of them
+        List<String> broadKeys = new ArrayList<>();
+        List<String> groupKeys = new ArrayList<>();
+        List<String> exactKeys = new ArrayList<>();
+        for (String key : defaults.keySet()) {
+            (groups.containsKey(key) ? groupKeys : exactKeys).add(key);
+        }
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                if (key.contains("*") || key.startsWith("#")) {
+                    broadKeys.add(key);
+                } else if (groups.containsKey(key)) {
+                    if (!groupKeys.contains(key)) groupKeys.add(key);
+                } else if (!exactKeys.contains(key)) {
+                    exactKeys.add(key);
+                }
+            }
+        }
+
+        for (String key : broadKeys) {
+            apply(key, section.getInt(key), groups, logger);
+        }
+        for (String key : groupKeys) {
+            apply(key, xpFor(key, section, defaults), groups, logger);
+        }
+        for (String key : exactKeys) {
+            apply(key, xpFor(key, section, defaults), groups, logger);
+        }
+    }
+
+    private static int xpFor(String key, ConfigurationSection section, Map<String, Integer> defaults) {
+        return section != null && section.contains(key) ? section.getInt(key) : defaults.get(key);
+    }
+
+    private void apply(String key, int xp, Map<String, List<String>> groups, Logger logger) {
+        Collection<E> matches = resolve(key, groups);
+        if (matches.isEmpty()) {
+            logger.warning("XP source '" + key + "' does not match any " + type.getSimpleName());
+            return;
+        }
+        for (E match : matches) {
+            rewards.put(match, xp);
+        }
+    }
+
+    private Collection<E> resolve(String key, Map<String, List<String>> groups) {
+        List<E> matches = new ArrayList<>();
+
+        // Only the literal lower-case group name; STONE or WHEAT is the single block
+        List<String> group = groups.get(key);
+        if (group != null) {
+            for (String name : group) {
+                E value = valueOf(name);
+                if (value != null) matches.add(value);
+            }
+            return matches;
+        }
+
+        if (key.startsWith("#")) {
+            return resolveTag(key.substring(1));
+        }
+
+        if (key.contains("*")) {
+            Pattern pattern = Pattern.compile(
+                key.toUpperCase(Locale.ROOT).replace("*", ".*").replaceAll("[^A-Z0-9_.*]", ""));
+            for (E value : type.getEnumConstants()) {
+                if (!value.name().startsWith("LEGACY_") && pattern.matcher(value.name()).matches()) {
+                    matches.add(value);
+                }
+            }
+            return matches;
+        }
+
+        E value = valueOf(key);
+        if (value != null) matches.add(value);
+        return matches;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<E> resolveTag(String tagName) {
+        if (type != Material.class) return List.of();
+
+        NamespacedKey key = NamespacedKey.minecraft(tagName.toLowerCase(Locale.ROOT));
+        Tag<Material> tag = Bukkit.getTag(Tag.REGISTRY_BLOCKS, key, Material.class);
+        return tag != null ? (Collection<E>) tag.getValues() : List.of();
+    }
+
+    private E valueOf(String name) {
+        try {
+            return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * XP for this source (0 if it gives none)
+     */
+    public int get(E source) {
+        Integer xp = rewards.get(source);
+        return xp != null ? xp : 0;
+    }
+
+    public int size() {
+        return rewards.size();
+    }
+
+    public Map<E, Integer> asMap() {
+        return Collections.unmodifiableMap(rewards);
+    }
+}
@@ -38,7 +38,7 @@ public class AdminCommandTabCompleter implements TabCompleter {
         if (args.length == 1) {
             completions.addAll(Arrays.asList(
                 "setseason", "setcycle", "setpoints", "apocalypse", "revive",
-                "eliminate", "territories", "teams", "gameinfo", "event", "skills"
+                "eliminate", "territories", "teams", "gameinfo", "dbinfo", "reload", "event", "skills"
             ));
             return filterCompletions(completions, args[0]);
         }
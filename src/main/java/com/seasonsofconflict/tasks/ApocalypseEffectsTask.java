@@ -8,6 +8,8 @@ import org.bukkit.entity.EnderCrystal;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -44,12 +46,29 @@ public class ApocalypseEffectsTask extends BukkitRunnable {
         applyDarkSky(world);
 
         // Apply apocalypse effects around each player
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
+        List<Location> centers = new ArrayList<>();
+        for (Player player : world.getPlayers()) {
             PlayerData data = plugin.getGameManager().getPlayerData(player);
             if (!data.isAlive()) continue;
 
-            applyApocalypseEffectsAroundPlayer(player);
+            // Spawn ash particles around player
+            spawnAshParticles(player);
+
+            // Spawn end crystals occasionally (if enabled)
+            spawnEndCrystals(player.getLocation());
+
+            centers.add(player.getLocation());
         }
+
+        // Check random blocks around players (60 block radius) for water->lava and fire
+        // spawning; overlapping areas are sampled once and unloaded chunks are skipped
+        plugin.getBlockSampler().sampleAround(centers, 60, 20, 10, block -> {
+            // Water to lava conversion
+            convertWaterToLava(block);
+
+            // Fire spawning on ground
+            spawnRandomFire(block);
+        });
     }
 
     /**
@@ -72,38 +91,6 @@ public class ApocalypseEffectsTask extends BukkitRunnable {
         }
     }
 
-    /**
-     * Apply apocalypse effects around a player (60 block radius)
-     */
-    private void applyApocalypseEffectsAroundPlayer(Player player) {
-        Location playerLoc = player.getLocation();
-        World world = playerLoc.getWorld();
-        int radius = 60;
-
-        // Spawn ash particles around player
-        spawnAshParticles(player);
-
-        // Check random blocks around player for water->lava and fire spawning
-        for (int i = 0; i < 10; i++) {
-            int x = playerLoc.getBlockX() + random.nextInt(radius * 2) - radius;
-            int y = playerLoc.getBlockY() + random.nextInt(40) - 20; // -20 to +20 from player
-            int z = playerLoc.getBlockZ() + random.nextInt(radius * 2) - radius;
-
-            y = Math.max(world.getMinHeight(), Math.min(world.getMaxHeight() - 1, y));
-
-            Block block = world.getBlockAt(x, y, z);
-
-            // Water to lava conversion
-            convertWaterToLava(block);
-
-            // Fire spawning on ground
-            spawnRandomFire(block);
-        }
-
-        // Spawn end crystals occasionally (if enabled)
-        spawnEndCrystals(playerLoc);
-    }
-
     /**
      * Spawn ash particles around player
      */
@@ -244,6 +231,7 @@ public class ApocalypseEffectsTask extends BukkitRunnable {
             // Find a suitable ground location near player
             int x = playerLoc.getBlockX() + random.nextInt(40) - 20;
             int z = playerLoc.getBlockZ() + random.nextInt(40) - 20;
+            if (!plugin.getBlockSampler().isLoaded(x, z)) return;
             int y = playerLoc.getWorld().getHighestBlockYAt(x, z) + 1;
 
             Location crystalLoc = new Location(playerLoc.getWorld(), x, y, z);
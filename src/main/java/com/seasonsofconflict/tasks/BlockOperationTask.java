@@ -0,0 +1,22 @@
+package com.seasonsofconflict.tasks;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Breaks the next skills.area_break_blocks_per_tick blocks of queued
+ * Vein Miner and tree felling jobs
+ */
+public class BlockOperationTask extends BukkitRunnable {
+
+    private final SeasonsOfConflict plugin;
+
+    public BlockOperationTask(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void run() {
+        plugin.getBlockOperationScheduler().tick();
+    }
+}
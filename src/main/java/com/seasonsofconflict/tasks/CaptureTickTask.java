@@ -1,16 +1,18 @@
 package com.seasonsofconflict.tasks;
 
 import com.seasonsofconflict.SeasonsOfConflict;
-import com.seasonsofconflict.models.PlayerData;
+import com.seasonsofconflict.managers.PlayerGrid;
+import com.seasonsofconflict.models.ConfigSnapshot;
 import com.seasonsofconflict.models.TeamData;
 import com.seasonsofconflict.models.TerritoryData;
 import com.seasonsofconflict.utils.MessageUtils;
 import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Handles territory capture mechanics.
@@ -21,40 +23,112 @@ import java.util.Map;
  * - Takes 300 seconds (5 minutes) to capture
  * - Progress decays when requirements not met
  * - Enemies within defense radius can contest capture
+ *
+ * All territories are evaluated from a single sweep over the players in
+ * the game world each tick.
+ *
+ * Capture progress is checkpointed to the database every
+ * capture.checkpoint_seconds rather than every tick; ownership changes
+ * are saved immediately by TerritoryManager.
  */
 public class CaptureTickTask extends BukkitRunnable {
 
     private final SeasonsOfConflict plugin;
+    private int secondsSinceCheckpoint;
 
     public CaptureTickTask(SeasonsOfConflict plugin) {
         this.plugin = plugin;
+        this.secondsSinceCheckpoint = 0;
     }
 
     @Override
     public void run() {
-        // Process each territory
-        for (TerritoryData territory : plugin.getTerritoryManager().getAllTerritories()) {
-            processTerritoryCapture(territory);
+        // Evaluate every territory from one sweep over the players
+        List<TerritoryData> territories = new ArrayList<>(plugin.getTerritoryManager().getAllTerritories());
+        CaptureZones zones = sweepCaptureZones(territories);
+
+        ConfigSnapshot settings = plugin.getSettings();
+        int minPlayers = settings.getCaptureMinPlayers();
+        for (int i = 0; i < territories.size(); i++) {
+            processTerritoryCapture(territories.get(i), zones, i, minPlayers);
+        }
+
+        // Shared capture bars follow the new progress and the players in range
+        plugin.getBossBarManager().updateCaptureBars();
+
+        // Persist changed capture state periodically instead of every tick
+        int checkpointSeconds = settings.getCaptureCheckpointSeconds();
+        if (++secondsSinceCheckpoint >= checkpointSeconds) {
+            secondsSinceCheckpoint = 0;
+            plugin.getTerritoryManager().checkpointTerritories();
+        }
+    }
+
+    /**
+     * Bucket every player in the game world into the capture and defense zones of all
+     * territories at once, comparing squared distances against cached beacon coordinates
+     */
+    private CaptureZones sweepCaptureZones(List<TerritoryData> territories) {
+        ConfigSnapshot settings = plugin.getSettings();
+        double captureRadiusSquared = settings.getCaptureRadiusSquared();
+        double defenseRadiusSquared = settings.getDefenseRadiusSquared();
+
+        int territoryCount = territories.size();
+        double[] beaconX = new double[territoryCount];
+        double[] beaconY = new double[territoryCount];
+        double[] beaconZ = new double[territoryCount];
+        for (int i = 0; i < territoryCount; i++) {
+            TerritoryData territory = territories.get(i);
+            beaconX[i] = territory.getBeaconX();
+            beaconY[i] = territory.getBeaconY();
+            beaconZ[i] = territory.getBeaconZ();
+        }
+
+        int maxTeamId = 0;
+        for (TeamData team : plugin.getTeamManager().getAllTeams()) {
+            maxTeamId = Math.max(maxTeamId, team.getTeamId());
+        }
+        CaptureZones zones = new CaptureZones(territoryCount, maxTeamId);
+
+        World world = Bukkit.getWorld(settings.getWorldName());
+        if (world == null) return zones;
+
+        for (PlayerGrid.Entry entry : plugin.getPlayerGrid().getPlayers(world)) {
+            int teamId = entry.getTeamId();
+            if (teamId <= 0 || teamId > maxTeamId) continue;
+
+            for (int i = 0; i < territoryCount; i++) {
+                double dx = entry.getX() - beaconX[i];
+                double dy = entry.getY() - beaconY[i];
+                double dz = entry.getZ() - beaconZ[i];
+                double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+                if (distanceSquared <= defenseRadiusSquared) {
+                    zones.defenders[i][teamId]++;
+                }
+                // Only alive players count toward capturing
+                if (distanceSquared <= captureRadiusSquared && entry.isAlive()) {
+                    zones.capturers[i][teamId]++;
+                }
+            }
         }
+        return zones;
     }
 
     /**
      * Process capture progress for a single territory
      */
-    private void processTerritoryCapture(TerritoryData territory) {
-        // Count players from each team within capture radius
-        Map<Integer, Integer> teamCounts = countPlayersInCaptureRadius(territory);
+    private void processTerritoryCapture(TerritoryData territory, CaptureZones zones, int index, int minPlayers) {
+        int[] teamCounts = zones.capturers[index];
 
         // Find the team with most players (must have 3+)
         int capturingTeamId = 0;
         int maxPlayers = 0;
 
-        for (Map.Entry<Integer, Integer> entry : teamCounts.entrySet()) {
-            int teamId = entry.getKey();
-            int playerCount = entry.getValue();
+        for (int teamId = 1; teamId < teamCounts.length; teamId++) {
+            int playerCount = teamCounts[teamId];
 
             // Must have minimum players and not already own the territory
-            int minPlayers = plugin.getConfig().getInt("capture.min_players", 3);
             if (playerCount >= minPlayers && teamId != territory.getOwnerTeamId()) {
                 if (playerCount > maxPlayers) {
                     maxPlayers = playerCount;
@@ -66,7 +140,7 @@ public class CaptureTickTask extends BukkitRunnable {
         // Check if enemies are contesting (within defense radius)
         boolean contested = false;
         if (capturingTeamId != 0) {
-            contested = plugin.getTerritoryManager().hasEnemyInDefenseRadius(territory, capturingTeamId);
+            contested = zones.hasDefenderOtherThan(index, capturingTeamId);
         }
 
         // Handle capture progress
@@ -79,28 +153,6 @@ public class CaptureTickTask extends BukkitRunnable {
         }
     }
 
-    /**
-     * Count alive players from each team within capture radius
-     */
-    private Map<Integer, Integer> countPlayersInCaptureRadius(TerritoryData territory) {
-        Map<Integer, Integer> teamCounts = new HashMap<>();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            PlayerData playerData = plugin.getGameManager().getPlayerData(player);
-
-            // Only count alive players
-            if (!playerData.isAlive()) continue;
-
-            // Check if player is in capture radius
-            if (plugin.getTerritoryManager().isInCaptureRadius(player, territory)) {
-                int teamId = playerData.getTeamId();
-                teamCounts.put(teamId, teamCounts.getOrDefault(teamId, 0) + 1);
-            }
-        }
-
-        return teamCounts;
-    }
-
     /**
      * Handle capture progress increase
      */
@@ -112,7 +164,6 @@ public class CaptureTickTask extends BukkitRunnable {
         if (currentCapturingTeam != capturingTeamId && currentCapturingTeam != 0) {
             territory.setCapturingTeamId(capturingTeamId);
             territory.setCaptureProgress(0);
-            plugin.getTerritoryManager().saveTerritory(territory);
 
             TeamData newTeam = plugin.getTeamManager().getTeam(capturingTeamId);
             if (newTeam != null) {
@@ -132,7 +183,7 @@ public class CaptureTickTask extends BukkitRunnable {
         territory.setCaptureProgress(currentProgress);
 
         // Check if capture is complete
-        int captureTime = plugin.getConfig().getInt("capture.time_seconds", 300);
+        int captureTime = plugin.getSettings().getCaptureTimeSeconds();
         if (currentProgress >= captureTime) {
             // Complete capture
             plugin.getTerritoryManager().captureTerritory(territory, capturingTeamId);
@@ -146,9 +197,6 @@ public class CaptureTickTask extends BukkitRunnable {
                         " &ais capturing &f" + territory.getName() + " &7(" + percentComplete + "%)");
                 }
             }
-
-            // Save progress
-            plugin.getTerritoryManager().saveTerritory(territory);
         }
     }
 
@@ -160,7 +208,7 @@ public class CaptureTickTask extends BukkitRunnable {
 
         if (currentProgress > 0) {
             // Decay progress
-            int decayRate = plugin.getConfig().getInt("capture.decay_rate", 2);
+            int decayRate = plugin.getSettings().getCaptureDecayRate();
             currentProgress = Math.max(0, currentProgress - decayRate);
             territory.setCaptureProgress(currentProgress);
 
@@ -172,8 +220,6 @@ public class CaptureTickTask extends BukkitRunnable {
                 }
                 territory.setCapturingTeamId(0);
             }
-
-            plugin.getTerritoryManager().saveTerritory(territory);
         }
     }
 
@@ -181,16 +227,34 @@ public class CaptureTickTask extends BukkitRunnable {
      * Notify all players within a radius of the territory beacon
      */
     private void notifyNearbyPlayers(TerritoryData territory, String message) {
-        String worldName = plugin.getConfig().getString("game.world_name", "world");
-        double notifyRadius = plugin.getConfig().getDouble("capture.notify_radius", 100.0);
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getWorld().getName().equals(worldName)) {
-                double distance = territory.getDistanceToBeacon(player.getLocation());
-                if (distance <= notifyRadius) {
-                    MessageUtils.sendMessage(player, message);
+        ConfigSnapshot settings = plugin.getSettings();
+        Location beaconLoc = territory.getBeaconLocation(settings.getWorldName());
+
+        for (PlayerGrid.Entry entry : plugin.getPlayerGrid().getPlayersInRadius(beaconLoc, settings.getNotifyRadius())) {
+            MessageUtils.sendMessage(entry.getPlayer(), message);
+        }
+    }
+
+    /**
+     * Per-territory team counts from one sweep: [territory index][team id]
+     */
+    private static class CaptureZones {
+        private final int[][] capturers;
+        private final int[][] defenders;
+
+        private CaptureZones(int territoryCount, int maxTeamId) {
+            this.capturers = new int[territoryCount][maxTeamId + 1];
+            this.defenders = new int[territoryCount][maxTeamId + 1];
+        }
+
+        private boolean hasDefenderOtherThan(int index, int teamId) {
+            int[] counts = defenders[index];
+            for (int other = 1; other < counts.length; other++) {
+                if (other != teamId && counts[other] > 0) {
+                    return true;
                 }
             }
+            return false;
         }
     }
 }
@@ -0,0 +1,152 @@
+package com.seasonsofconflict.tasks;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import com.seasonsofconflict.models.PlayerData;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Resets the cached players' daily stats and quests a slice at a time.
+ *
+ * Started by the daily reset once the database-wide reset is committed. Every tick the next
+ * quests.daily_reset.players_per_tick cached players have their counters and quests
+ * cleared, online alive players get their new daily quests, and the slice is saved in
+ * one batch. Cancels itself when every player has been processed.
+ */
+public class DailyResetJob extends BukkitRunnable {
+
+    private final SeasonsOfConflict plugin;
+    private final int total;
+
+    // Released on completion so a finished job does not keep evicted players reachable
+    private List<PlayerData> players;
+
+    // Players not reset yet; resetNow can take one out of order
+    private final Set<UUID> pending;
+    private int next;
+    private boolean done;
+
+    // Progress
+    private final long startedAt;
+    private long finishedAt;
+    private int ticks;
+
+    /**
+     * @param players Cached players to reset, in processing order
+     */
+    public DailyResetJob(SeasonsOfConflict plugin, List<PlayerData> players) {
+        this.plugin = plugin;
+        this.total = players.size();
+        this.players = players;
+        this.pending = new HashSet<>(players.size() * 2);
+        for (PlayerData data : players) {
+            pending.add(data.getUUID());
+        }
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+        ticks++;
+        int budget = plugin.getSettings().getDailyResetPlayersPerTick();
+        List<PlayerData> batch = new ArrayList<>(Math.min(budget, players.size() - next));
+        while (budget > 0 && next < players.size()) {
+            PlayerData data = players.get(next++);
+            if (reset(data)) {
+                batch.add(data);
+                budget--;
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            plugin.getDataManager().savePlayers(batch);
+        }
+        if (next >= players.size()) {
+            complete();
+        }
+    }
+
+    /**
+     * Reset a player ahead of their slice, e.g. before their data leaves the cache.
+     * Players loaded after the job started are already reset in the database and are
+     * left alone. The caller is responsible for saving them.
+     */
+    public void resetNow(PlayerData data) {
+        if (!done) {
+            reset(data);
+        }
+    }
+
+    /**
+     * Process every remaining player on the calling tick (new reset or shutdown)
+     */
+    public void finish() {
+        if (done) return;
+
+        List<PlayerData> batch = new ArrayList<>(players.size() - next);
+        while (next < players.size()) {
+            PlayerData data = players.get(next++);
+            if (reset(data)) {
+                batch.add(data);
+            }
+        }
+        if (!batch.isEmpty()) {
+            plugin.getDataManager().savePlayers(batch);
+        }
+        complete();
+    }
+
+    private boolean reset(PlayerData data) {
+        if (!pending.remove(data.getUUID())) return false;
+
+        data.resetDailyStats();
+        data.clearDailyQuests();
+
+        Player player = Bukkit.getPlayer(data.getUUID());
+        if (player != null && data.isAlive()) {
+            // Saved with the rest of the slice
+            plugin.getQuestManager().assignDailyQuests(player, false);
+        }
+        return true;
+    }
+
+    private void complete() {
+        done = true;
+        finishedAt = System.currentTimeMillis();
+        players = null;
+        pending.clear();
+        cancel();
+        plugin.getLogger().info("Daily reset finished: " + total + " players in " +
+                                ticks + " ticks (" + (finishedAt - startedAt) + " ms)");
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public int getProcessedCount() {
+        return total - pending.size();
+    }
+
+    public int getTotalCount() {
+        return total;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Wall-clock time from start to finish, or so far if still running
+     */
+    public long getElapsedMillis() {
+        return (done ? finishedAt : System.currentTimeMillis()) - startedAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.seasonsofconflict.tasks;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Re-renders the sidebar and boss bars of players whose HUD was marked dirty,
+ * with a full refresh every hud.fallback_refresh_seconds
+ */
+public class HudUpdateTask extends BukkitRunnable {
+
+    private final SeasonsOfConflict plugin;
+
+    public HudUpdateTask(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void run() {
+        plugin.getHudManager().flush();
+    }
+}
@@ -0,0 +1,21 @@
+package com.seasonsofconflict.tasks;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Evicts idle offline players from the player data cache (writing them back first)
+ */
+public class PlayerCacheTask extends BukkitRunnable {
+
+    private final SeasonsOfConflict plugin;
+
+    public PlayerCacheTask(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void run() {
+        plugin.getGameManager().evictIdlePlayers();
+    }
+}
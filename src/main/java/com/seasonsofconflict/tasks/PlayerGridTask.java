@@ -0,0 +1,21 @@
+package com.seasonsofconflict.tasks;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Marks the player grid stale every tick so the next proximity query rebuilds it
+ */
+public class PlayerGridTask extends BukkitRunnable {
+
+    private final SeasonsOfConflict plugin;
+
+    public PlayerGridTask(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void run() {
+        plugin.getPlayerGrid().invalidate();
+    }
+}
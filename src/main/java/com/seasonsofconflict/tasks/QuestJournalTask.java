@@ -0,0 +1,23 @@
+package com.seasonsofconflict.tasks;
+
+import com.seasonsofconflict.SeasonsOfConflict;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Appends buffered quest progress to the quest journal, compacting the journal
+ * every quests.journal.compact_minutes
+ */
+public class QuestJournalTask extends BukkitRunnable {
+
+    private final SeasonsOfConflict plugin;
+
+    public QuestJournalTask(SeasonsOfConflict plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void run() {
+        plugin.getDataManager().getQuestJournal().flush();
+        plugin.getDataManager().getQuestJournal().compactIfDue();
+    }
+}
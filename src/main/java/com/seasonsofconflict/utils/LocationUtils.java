@@ -29,4 +29,27 @@ public class LocationUtils {
         double dz = loc1.getZ() - loc2.getZ();
         return Math.sqrt(dx * dx + dz * dz);
     }
+
+    /**
+     * Pack block coordinates into one long (26 bits x, 26 bits z, 12 bits y)
+     */
+    public static long packBlock(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static long packBlock(Block block) {
+        return packBlock(block.getX(), block.getY(), block.getZ());
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
 }
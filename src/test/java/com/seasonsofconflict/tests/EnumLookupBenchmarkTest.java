@@ -0,0 +1,131 @@
+package com.seasonsofconflict.tests;
+
+import com.seasonsofconflict.models.QuestProgressKey;
+import com.seasonsofconflict.models.Skill;
+import com.seasonsofconflict.models.SkillTier;
+import com.seasonsofconflict.models.SkillTree;
+import org.bukkit.entity.EntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Benchmarks for the enum lookups used on listener paths
+ * Reports, per lookup, the time and bytes allocated against the old linear scan over
+ * values(). Results are published as test report entries; nothing is asserted.
+ *
+ * Excluded from the default build; run with:
+ *   mvn test -Dtest.excludedGroups= -Dgroups=benchmark
+ */
+@Tag("benchmark")
+@DisplayName("Enum Lookup Benchmarks")
+public class EnumLookupBenchmarkTest {
+
+    private static final int ITERATIONS = 1_000_000;
+
+    // Keeps results live so the JIT cannot drop the measured loops
+    private static int sink;
+
+    @Test
+    @DisplayName("Skill lookup by internal name vs scanning values()")
+    public void benchmarkSkillLookup(TestReporter reporter) {
+        String[] names = new String[Skill.values().length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = Skill.values()[i].getInternalName();
+        }
+
+        measure(reporter, "skill.index", () -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += Skill.fromInternalName(names[i % names.length]).ordinal();
+            }
+        });
+        measure(reporter, "skill.scan", () -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                String name = names[i % names.length];
+                for (Skill skill : Skill.values()) {
+                    if (skill.getInternalName().equals(name)) {
+                        sink += skill.ordinal();
+                        break;
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Mob kill progress key vs building the key string")
+    public void benchmarkKillProgressKey(TestReporter reporter) {
+        EntityType[] types = {EntityType.ZOMBIE, EntityType.SKELETON, EntityType.CREEPER, EntityType.PIG};
+
+        measure(reporter, "kill_key.index", () -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                QuestProgressKey key = QuestProgressKey.forKill(types[i % types.length]);
+                sink += key != null ? key.ordinal() : 0;
+            }
+        });
+        measure(reporter, "kill_key.string", () -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                QuestProgressKey key = QuestProgressKey.fromKey(types[i % types.length].name().toLowerCase() + "_kills");
+                sink += key != null ? key.ordinal() : 0;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Skills in a tier vs streaming values()")
+    public void benchmarkSkillsInTier(TestReporter reporter) {
+        SkillTree[] trees = SkillTree.values();
+        SkillTier[] tiers = SkillTier.values();
+
+        measure(reporter, "skill_tier.index", () -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += Skill.getSkillsInTier(trees[i % trees.length], tiers[i % tiers.length]).length;
+            }
+        });
+        measure(reporter, "skill_tier.stream", () -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                SkillTree tree = trees[i % trees.length];
+                SkillTier tier = tiers[i % tiers.length];
+                sink += java.util.Arrays.stream(Skill.values())
+                    .filter(skill -> skill.getTree() == tree && skill.getTier() == tier)
+                    .toArray(Skill[]::new).length;
+            }
+        });
+    }
+
+    /**
+     * Run a loop once to warm up, then again measured, and publish time and allocation
+     */
+    private static void measure(TestReporter reporter, String name, Runnable loop) {
+        loop.run();
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        loop.run();
+        long nanos = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes();
+
+        reporter.publishEntry(name + ".ns_per_op", String.format("%.2f", (double) nanos / ITERATIONS));
+        if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+            reporter.publishEntry(name + ".bytes_per_op",
+                String.format("%.2f", (double) (allocatedAfter - allocatedBefore) / ITERATIONS));
+        }
+    }
+
+    /**
+     * Bytes allocated by this thread so far, or -1 where the JVM does not report it
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return -1;
+
+        com.sun.management.ThreadMXBean counters = (com.sun.management.ThreadMXBean) threads;
+        if (!counters.isThreadAllocatedMemorySupported()) return -1;
+        counters.setThreadAllocatedMemoryEnabled(true);
+        return counters.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
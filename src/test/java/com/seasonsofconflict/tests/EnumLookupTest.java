@@ -0,0 +1,59 @@
+package com.seasonsofconflict.tests;
+
+import com.seasonsofconflict.models.QuestProgressKey;
+import com.seasonsofconflict.models.QuestTemplate;
+import com.seasonsofconflict.models.ShopItem;
+import com.seasonsofconflict.models.Skill;
+import org.bukkit.entity.EntityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the enum name indexes
+ * Verifies that lookups by name:
+ * - Resolve every constant by each of its names
+ * - Return null for unknown names
+ */
+@DisplayName("Enum Lookup Tests")
+public class EnumLookupTest {
+
+    @Test
+    @DisplayName("Every skill resolves by internal, display and enum name")
+    public void testSkillIndexCoversAllSkills() {
+        for (Skill skill : Skill.values()) {
+            assertSame(skill, Skill.fromInternalName(skill.getInternalName()));
+            assertSame(skill, Skill.fromDisplayName(skill.getDisplayName()));
+            assertSame(skill, Skill.fromName(skill.name()));
+            assertSame(skill, Skill.fromName(skill.getInternalName().toUpperCase()));
+        }
+        assertNull(Skill.fromInternalName("not_a_skill"));
+        assertNull(Skill.fromInternalName(null));
+    }
+
+    @Test
+    @DisplayName("Quest templates resolve by id and progress key")
+    public void testQuestTemplateIndex() {
+        for (QuestTemplate template : QuestTemplate.values()) {
+            assertSame(template, QuestTemplate.fromId(template.ordinal()));
+            assertTrue(QuestTemplate.forProgressKey(template.getProgressKey()).contains(template));
+            assertSame(template.getProgressKeyId(), QuestProgressKey.fromKey(template.getProgressKey()));
+        }
+        assertSame(QuestProgressKey.ZOMBIE_KILLS, QuestProgressKey.forKill(EntityType.ZOMBIE));
+        assertNull(QuestProgressKey.forKill(EntityType.PIG));
+        assertNull(QuestTemplate.fromId(-1));
+        assertNull(QuestTemplate.fromId(QuestTemplate.values().length));
+        assertTrue(QuestTemplate.forProgressKey("unknown_key").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Shop items resolve by id and alias, ignoring case")
+    public void testShopItemIndex() {
+        assertSame(ShopItem.GOLDEN_APPLES, ShopItem.fromString("gapples"));
+        assertSame(ShopItem.IRON_ARMOR, ShopItem.fromString("IRON_ARMOR"));
+        assertSame(ShopItem.TERRITORY_SHIELD, ShopItem.fromString("Shield"));
+        assertNull(ShopItem.fromString("diamonds"));
+        assertNull(ShopItem.fromString(null));
+    }
+}
@@ -1,9 +1,12 @@
 package com.seasonsofconflict.tests;
 
+import com.seasonsofconflict.utils.AliasTable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Random;
+
 /**
  * Integration tests for QuestManager
  * Tests quest system mechanics including:
@@ -149,4 +152,35 @@ public class QuestManagerTest {
 
         assertTrue(true, "Test requires MockBukkit setup");
     }
+
+    @Test
+    @DisplayName("Seasonal quest weights are sampled in proportion to their weight")
+    public void testSeasonalWeightDistribution() {
+        // Summer weights: combat 2.0, gathering 1.5, others 1.0
+        double[] weights = {2.0, 1.5, 1.0, 1.0, 0.0};
+        AliasTable table = new AliasTable(weights);
+        assertEquals(5, table.size());
+
+        Random random = new Random(42);
+        int draws = 550_000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < draws; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        double total = 5.5;
+        for (int i = 0; i < weights.length; i++) {
+            double expected = draws * weights[i] / total;
+            assertEquals(expected, counts[i], draws * 0.005, "Index " + i + " drawn off-weight");
+        }
+        assertEquals(0, counts[4], "Zero-weight entries are never drawn");
+    }
+
+    @Test
+    @DisplayName("Alias table rejects weights it cannot sample")
+    public void testAliasTableRejectsInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {0.0, 0.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1.0, -1.0}));
+    }
 }